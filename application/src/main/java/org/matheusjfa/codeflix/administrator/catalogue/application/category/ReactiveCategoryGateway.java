@@ -0,0 +1,29 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking counterpart of CategoryGateway: nothing waits on a thread while the database works.
+// An empty Mono stands for a category that doesn't exist. It lives here rather than in the domain, which stays free
+// of Reactor.
+public interface ReactiveCategoryGateway {
+    Mono<Category> create(Category category);
+
+    Mono<Category> findById(CategoryID id);
+
+    Mono<Pagination<Category>> findAll(CategorySearchQuery query);
+
+    // Emits every matching category as the rows arrive, ignoring the page
+    Flux<Category> streamAll(CategorySearchQuery query);
+
+    Mono<CategoryPatchResult> patch(CategoryPatch patch);
+
+    // Removes the category for good or only marks it removed, as the gateway is configured, and emits its id
+    Mono<CategoryID> deleteById(CategoryID id);
+}
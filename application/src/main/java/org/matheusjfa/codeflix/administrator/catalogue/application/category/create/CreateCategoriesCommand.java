@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesCommand(List<CreateCategoryCommand> items) {
+    public static CreateCategoriesCommand with(final List<CreateCategoryCommand> items) {
+        return new CreateCategoriesCommand(items);
+    }
+}
@@ -0,0 +1,20 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Map;
+
+// Errors are keyed by the position of the item in the command, so callers can report exactly which rows failed
+public record CreateCategoriesOutput(List<CreateCategoryOutput> created, Map<Integer, Notification> errors) {
+    public static CreateCategoriesOutput from(
+            final List<CreateCategoryOutput> created,
+            final Map<Integer, Notification> errors
+    ) {
+        return new CreateCategoriesOutput(created, errors);
+    }
+
+    public boolean hasErrors() {
+        return !this.errors.isEmpty();
+    }
+}
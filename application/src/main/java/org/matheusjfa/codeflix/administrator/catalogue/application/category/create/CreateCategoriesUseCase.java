@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+
+public abstract class CreateCategoriesUseCase extends UseCase<CreateCategoriesCommand, CreateCategoriesOutput> {
+    public abstract CreateCategoriesOutput execute(CreateCategoriesCommand command);
+}
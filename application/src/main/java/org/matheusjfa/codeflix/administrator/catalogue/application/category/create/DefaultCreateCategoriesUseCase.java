@@ -0,0 +1,67 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import io.vavr.API;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+    private final CategoryGateway gateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public CreateCategoriesOutput execute(final CreateCategoriesCommand command) {
+        final var items = command.items();
+
+        final var errors = new TreeMap<Integer, Notification>();
+        final var positions = new ArrayList<Integer>(items.size());
+        final var categories = new ArrayList<Category>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            final var notification = Notification.create();
+
+            final var category = Category.create(item.name(), item.description(), item.isActive());
+
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                errors.put(i, notification);
+            } else {
+                positions.add(i);
+                categories.add(category);
+            }
+        }
+
+        if (categories.isEmpty()) return CreateCategoriesOutput.from(List.of(), errors);
+
+        return API.Try(() -> gateway.createAll(categories))
+                .fold(
+                        throwable -> failAll(positions, throwable, errors),
+                        created -> CreateCategoriesOutput.from(
+                                created.stream().map(CreateCategoryOutput::from).toList(),
+                                errors
+                        )
+                );
+    }
+
+    // A failed batch is rolled back as a whole, so every item that reached the gateway is reported with the cause
+    private static CreateCategoriesOutput failAll(
+            final List<Integer> positions,
+            final Throwable throwable,
+            final Map<Integer, Notification> errors
+    ) {
+        positions.forEach(position -> errors.put(position, Notification.create(throwable)));
+
+        return CreateCategoriesOutput.from(List.of(), errors);
+    }
+}
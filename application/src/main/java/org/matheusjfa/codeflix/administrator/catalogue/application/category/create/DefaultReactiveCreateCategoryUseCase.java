@@ -0,0 +1,36 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveCreateCategoryUseCase extends ReactiveCreateCategoryUseCase {
+    private final ReactiveCategoryGateway gateway;
+
+    public DefaultReactiveCreateCategoryUseCase(final ReactiveCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand command) {
+        final var notification = Notification.create();
+
+        final var category = Category.create(command.name(), command.description(), command.isActive());
+
+        category.validate(notification);
+
+        return notification.hasErrors()
+                ? Mono.just(Either.left(notification))
+                : create(category);
+    }
+
+    private Mono<Either<Notification, CreateCategoryOutput>> create(final Category category) {
+        return this.gateway.create(category)
+                .map(created -> Either.<Notification, CreateCategoryOutput>right(CreateCategoryOutput.from(created)))
+                .onErrorResume(throwable -> Mono.just(Either.left(Notification.create(throwable))));
+    }
+}
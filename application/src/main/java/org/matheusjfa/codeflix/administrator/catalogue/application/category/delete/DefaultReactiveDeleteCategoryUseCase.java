@@ -0,0 +1,32 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.delete;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveDeleteCategoryUseCase extends ReactiveDeleteCategoryUseCase {
+    private final ReactiveCategoryGateway gateway;
+
+    public DefaultReactiveDeleteCategoryUseCase(final ReactiveCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<DeleteCategoryOutput> execute(final DeleteCategoryCommand command) {
+        final var id = CategoryID.from(command.id());
+
+        return this.gateway.deleteById(id)
+                .map(DeleteCategoryOutput::from)
+                .switchIfEmpty(Mono.error(() -> categoryNotFound(id)));
+    }
+
+    private DomainException categoryNotFound(final CategoryID id) {
+        return DomainException.with(
+                new Error("Category with ID %s was not found".formatted(id.getValue()))
+        );
+    }
+}
@@ -1,9 +1,14 @@
 package org.matheusjfa.codeflix.administrator.catalogue.application.category.delete;
 
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
 
 public record DeleteCategoryOutput(String id) {
     public static DeleteCategoryOutput from(final Category category) {
         return new DeleteCategoryOutput(category.getId().getValue());
     }
+
+    public static DeleteCategoryOutput from(final CategoryID id) {
+        return new DeleteCategoryOutput(id.getValue());
+    }
 }
@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.delete;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveDeleteCategoryUseCase extends UseCase<DeleteCategoryCommand, Mono<DeleteCategoryOutput>> {
+}
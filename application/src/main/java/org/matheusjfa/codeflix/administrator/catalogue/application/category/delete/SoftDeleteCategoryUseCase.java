@@ -0,0 +1,30 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.delete;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+
+import java.util.Objects;
+
+// Marks the category as removed with a single UPDATE, the row itself is archived later by a background job
+public class SoftDeleteCategoryUseCase extends DeleteCategoryUseCase {
+    private final CategoryGateway gateway;
+
+    public SoftDeleteCategoryUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public DeleteCategoryOutput execute(final DeleteCategoryCommand command) {
+        final var id = CategoryID.from(command.id());
+
+        if (!gateway.softDeleteById(id)) {
+            throw DomainException.with(
+                    new Error("Category with ID %s was not found".formatted(id.getValue()))
+            );
+        }
+
+        return DeleteCategoryOutput.from(id);
+    }
+}
@@ -0,0 +1,97 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.export;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+// Writes one JSON object per category to a gzip stream as the gateway hands them over, so nothing but the
+// current row is held in memory. The caller owns the output stream and closes it.
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CategoryGateway gateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Either<Notification, ExportCategoriesOutput> execute(final ExportCategoriesCommand command) {
+        return API.Try(() -> export(command))
+                .toEither()
+                .bimap(Notification::create, ExportCategoriesOutput::from);
+    }
+
+    private long export(final ExportCategoriesCommand command) throws IOException {
+        final var gzip = new GZIPOutputStream(command.output(), BUFFER_SIZE);
+        final var writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        final var exported = this.gateway.streamAll(command.query(), category -> write(writer, category));
+
+        writer.flush();
+        gzip.finish();
+        return exported;
+    }
+
+    private static void write(final Writer writer, final Category category) {
+        try {
+            writer.write("{\"id\":");
+            writeString(writer, category.getId().getValue());
+            writer.write(",\"name\":");
+            writeString(writer, category.getName());
+            writer.write(",\"description\":");
+            writeString(writer, category.getDescription());
+            writer.write(",\"isActive\":");
+            writer.write(Boolean.toString(category.isActive()));
+            writer.write(",\"createdAt\":");
+            writeInstant(writer, category.getCreatedAt());
+            writer.write(",\"updatedAt\":");
+            writeInstant(writer, category.getUpdatedAt());
+            writer.write(",\"deletedAt\":");
+            writeInstant(writer, category.getDeletedAt());
+            writer.write("}\n");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInstant(final Writer writer, final Instant value) throws IOException {
+        writeString(writer, value == null ? null : value.toString());
+    }
+
+    private static void writeString(final Writer writer, final String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) writer.write("\\u%04x".formatted((int) c));
+                    else writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,11 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.export;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+
+import java.io.OutputStream;
+
+public record ExportCategoriesCommand(CategorySearchQuery query, OutputStream output) {
+    public static ExportCategoriesCommand with(final CategorySearchQuery query, final OutputStream output) {
+        return new ExportCategoriesCommand(query, output);
+    }
+}
@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.export;
+
+public record ExportCategoriesOutput(long exported) {
+    public static ExportCategoriesOutput from(final long exported) {
+        return new ExportCategoriesOutput(exported);
+    }
+}
@@ -0,0 +1,8 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.export;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+public abstract class ExportCategoriesUseCase extends UseCase<ExportCategoriesCommand, Either<Notification, ExportCategoriesOutput>> {
+}
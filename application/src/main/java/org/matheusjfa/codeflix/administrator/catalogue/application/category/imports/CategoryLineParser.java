@@ -0,0 +1,24 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+
+// Parses one line at a time and throws IllegalArgumentException with a readable message for a malformed one
+interface CategoryLineParser {
+    CreateCategoryCommand parse(String line);
+
+    static CategoryLineParser csv(final String header) {
+        return new CsvCategoryLineParser(header);
+    }
+
+    static CategoryLineParser ndjson() {
+        return new NdjsonCategoryLineParser();
+    }
+
+    static boolean parseActive(final String value) {
+        if (value == null || value.isBlank()) return true;
+        if (value.equalsIgnoreCase("true")) return true;
+        if (value.equalsIgnoreCase("false")) return false;
+
+        throw new IllegalArgumentException("'isActive' should be true or false but was '%s'".formatted(value));
+    }
+}
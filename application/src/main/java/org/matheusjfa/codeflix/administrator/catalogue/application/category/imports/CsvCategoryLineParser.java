@@ -0,0 +1,74 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 fields with quotes and doubled quotes, one record per line. Columns are found by the header names.
+class CsvCategoryLineParser implements CategoryLineParser {
+    private final int name;
+    private final int description;
+    private final int isActive;
+
+    CsvCategoryLineParser(final String header) {
+        final var columns = split(header).stream().map(String::trim).toList();
+
+        this.name = columns.indexOf("name");
+        this.description = columns.indexOf("description");
+        this.isActive = columns.indexOf("isActive");
+
+        if (this.name < 0) throw new IllegalArgumentException("CSV header should have a 'name' column");
+    }
+
+    @Override
+    public CreateCategoryCommand parse(final String line) {
+        final var fields = split(line);
+
+        return CreateCategoryCommand.with(
+                field(fields, this.name),
+                field(fields, this.description),
+                CategoryLineParser.parseActive(field(fields, this.isActive))
+        );
+    }
+
+    private static String field(final List<String> fields, final int index) {
+        if (index < 0 || index >= fields.size()) return null;
+
+        final var value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(final String line) {
+        final var fields = new ArrayList<String>();
+        final var current = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            final var c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    current.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) throw new IllegalArgumentException("Unterminated quoted field");
+
+        fields.add(current.toString());
+        return fields;
+    }
+}
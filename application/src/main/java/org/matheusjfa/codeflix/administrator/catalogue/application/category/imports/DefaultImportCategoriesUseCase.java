@@ -0,0 +1,279 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Three stages with bounded hand-offs between them:
+//   reader (caller thread)  -> parses lines into chunks, blocks when `parallelism` chunks are being validated
+//   validators (N threads)  -> build and validate the categories, block when the batch queue is full
+//   writer (1 thread)       -> sends each batch through createAll, keeping its one connection busy
+// So at most parallelism + queueCapacity + 1 chunks are in memory, whatever the size of the input.
+// Hand-offs to the writer give up once it has stopped, so a failed writer never leaves the other stages blocked.
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+    private static final List<Category> END_OF_INPUT = List.of();
+    private static final long HAND_OFF_POLL_MILLIS = 100;
+
+    private final CategoryGateway gateway;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final int maxReportedErrors;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway gateway) {
+        this(gateway, 500, Runtime.getRuntime().availableProcessors(), 4, 1_000);
+    }
+
+    public DefaultImportCategoriesUseCase(
+            final CategoryGateway gateway,
+            final int chunkSize,
+            final int parallelism,
+            final int queueCapacity,
+            final int maxReportedErrors
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public Either<Notification, ImportCategoriesOutput> execute(final ImportCategoriesCommand command) {
+        return API.Try(() -> run(command))
+                .toEither()
+                .mapLeft(Notification::create);
+    }
+
+    private ImportCategoriesOutput run(final ImportCategoriesCommand command) throws Exception {
+        final var report = new Report(this.maxReportedErrors);
+        final BlockingQueue<List<Category>> batches = new ArrayBlockingQueue<>(this.queueCapacity);
+        final var validating = new Semaphore(this.parallelism);
+
+        final var validators = Executors.newFixedThreadPool(this.parallelism);
+        final var writer = Executors.newSingleThreadExecutor();
+
+        try {
+            final var writing = writer.submit(() -> write(batches, report));
+
+            read(command, chunk -> {
+                // Nothing more can be stored, surfaces the writer's failure
+                if (writing.isDone()) writing.get();
+
+                validating.acquire();
+                validators.execute(() -> {
+                    try {
+                        validateAndHandOff(chunk, batches, writing, report);
+                    } finally {
+                        validating.release();
+                    }
+                });
+            }, report);
+
+            // Every permit back means every chunk has reached the queue or has been reported
+            validating.acquire(this.parallelism);
+            handOff(batches, END_OF_INPUT, writing);
+
+            writing.get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            validators.shutdownNow();
+            writer.shutdownNow();
+        }
+
+        return report.toOutput();
+    }
+
+    private void read(
+            final ImportCategoriesCommand command,
+            final ChunkHandler handler,
+            final Report report
+    ) throws Exception {
+        final var reader = new BufferedReader(new InputStreamReader(command.input(), StandardCharsets.UTF_8));
+
+        var lineNumber = 0L;
+        var line = reader.readLine();
+        lineNumber++;
+
+        final CategoryLineParser parser;
+        if (command.format() == ImportFormat.CSV) {
+            if (line == null) return;
+            parser = CategoryLineParser.csv(line);
+            line = reader.readLine();
+            lineNumber++;
+        } else {
+            parser = CategoryLineParser.ndjson();
+        }
+
+        var chunk = new ArrayList<Line>(this.chunkSize);
+
+        for (; line != null; line = reader.readLine(), lineNumber++) {
+            if (line.isBlank()) continue;
+
+            try {
+                chunk.add(new Line(lineNumber, parser.parse(line)));
+            } catch (final IllegalArgumentException e) {
+                report.reject(lineNumber, Notification.create(new Error(e.getMessage())));
+            }
+
+            if (chunk.size() == this.chunkSize) {
+                handler.accept(chunk);
+                chunk = new ArrayList<>(this.chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) handler.accept(chunk);
+    }
+
+    // Every line of the chunk ends up imported or rejected, whatever goes wrong on the way
+    private static void validateAndHandOff(
+            final List<Line> chunk,
+            final BlockingQueue<List<Category>> batches,
+            final Future<?> writing,
+            final Report report
+    ) {
+        final List<Category> valid;
+
+        try {
+            valid = validate(chunk, report);
+        } catch (final Throwable e) {
+            final var notification = Notification.create(e);
+            chunk.forEach(line -> report.reject(line.number(), notification));
+            return;
+        }
+
+        if (valid.isEmpty()) return;
+
+        try {
+            if (!handOff(batches, valid, writing)) {
+                report.failed(valid, new IllegalStateException("The import stopped before the batch was stored"));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.failed(valid, e);
+        }
+    }
+
+    // Rejections are only reported once the whole chunk is validated, so a failure halfway counts no line twice
+    private static List<Category> validate(final List<Line> chunk, final Report report) {
+        final var valid = new ArrayList<Category>(chunk.size());
+        final var rejected = new LinkedHashMap<Long, Notification>();
+
+        for (final var line : chunk) {
+            final var command = line.command();
+            final var category = Category.create(command.name(), command.description(), command.isActive());
+
+            final var notification = Notification.create();
+            category.validate(notification);
+
+            if (notification.hasErrors()) rejected.put(line.number(), notification);
+            else valid.add(category);
+        }
+
+        rejected.forEach(report::reject);
+        return valid;
+    }
+
+    // Waits for room in the queue while the writer is still taking batches, false once it has stopped
+    private static boolean handOff(
+            final BlockingQueue<List<Category>> batches,
+            final List<Category> batch,
+            final Future<?> writing
+    ) throws InterruptedException {
+        while (!batches.offer(batch, HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writing.isDone()) return false;
+        }
+        return true;
+    }
+
+    private Void write(final BlockingQueue<List<Category>> batches, final Report report) throws InterruptedException {
+        while (true) {
+            final var batch = batches.take();
+            if (batch == END_OF_INPUT) return null;
+
+            try {
+                report.imported(this.gateway.createAll(batch).size());
+            } catch (final RuntimeException e) {
+                report.failed(batch, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkHandler {
+        void accept(List<Line> chunk) throws InterruptedException, ExecutionException;
+    }
+
+    private record Line(long number, CreateCategoryCommand command) {
+    }
+
+    private static final class Report {
+        private final int maxErrors;
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final Map<Long, Notification> errors = new ConcurrentSkipListMap<>();
+        private final AtomicInteger recordedErrors = new AtomicInteger();
+        private final AtomicLong failedBatches = new AtomicLong();
+
+        private Report(final int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void imported(final long count) {
+            this.imported.addAndGet(count);
+        }
+
+        private void reject(final long lineNumber, final Notification notification) {
+            this.rejected.incrementAndGet();
+            if (reserveError()) this.errors.put(lineNumber, notification);
+        }
+
+        // Batches that failed as a whole are keyed by negative numbers so they never clash with a line. Line numbers
+        // are gone at this point, the rows are reported by name instead.
+        private void failed(final List<Category> batch, final Throwable error) {
+            final var notification = Notification.create(error);
+            batch.forEach(category -> notification.append(
+                    new Error("'%s' was not imported".formatted(category.getName()))
+            ));
+
+            this.rejected.addAndGet(batch.size());
+            if (reserveError()) this.errors.put(-this.failedBatches.incrementAndGet(), notification);
+        }
+
+        // ConcurrentSkipListMap.size() walks every entry, so the recorded errors are counted on the side
+        private boolean reserveError() {
+            return this.recordedErrors.get() < this.maxErrors && this.recordedErrors.incrementAndGet() <= this.maxErrors;
+        }
+
+        private ImportCategoriesOutput toOutput() {
+            return new ImportCategoriesOutput(this.imported.get(), this.rejected.get(), Collections.unmodifiableSortedMap(new TreeMap<>(this.errors)));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import java.io.InputStream;
+
+public record ImportCategoriesCommand(InputStream input, ImportFormat format) {
+    public static ImportCategoriesCommand with(final InputStream input, final ImportFormat format) {
+        return new ImportCategoriesCommand(input, format);
+    }
+}
@@ -0,0 +1,12 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.util.Map;
+
+// errors is keyed by line number and capped, rejected still counts every line that was not imported
+public record ImportCategoriesOutput(long imported, long rejected, Map<Long, Notification> errors) {
+    public boolean hasErrors() {
+        return this.rejected > 0;
+    }
+}
@@ -0,0 +1,8 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+public abstract class ImportCategoriesUseCase extends UseCase<ImportCategoriesCommand, Either<Notification, ImportCategoriesOutput>> {
+}
@@ -0,0 +1,6 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
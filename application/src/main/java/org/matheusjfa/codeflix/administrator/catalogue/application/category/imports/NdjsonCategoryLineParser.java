@@ -0,0 +1,152 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.imports;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Reads the flat objects the export writes: string, boolean and null values. Unknown keys are ignored.
+class NdjsonCategoryLineParser implements CategoryLineParser {
+
+    @Override
+    public CreateCategoryCommand parse(final String line) {
+        final var fields = new FlatObject(line).parse();
+        final var isActive = fields.get("isActive");
+
+        if (isActive != null && !(isActive instanceof Boolean)) {
+            throw new IllegalArgumentException("'isActive' should be a boolean");
+        }
+
+        return CreateCategoryCommand.with(
+                string(fields, "name"),
+                string(fields, "description"),
+                isActive == null || (Boolean) isActive
+        );
+    }
+
+    private static String string(final Map<String, Object> fields, final String key) {
+        final var value = fields.get(key);
+
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("'%s' should be a string".formatted(key));
+        }
+
+        return (String) value;
+    }
+
+    private static final class FlatObject {
+        private final String text;
+        private int position;
+
+        private FlatObject(final String text) {
+            this.text = text;
+        }
+
+        private Map<String, Object> parse() {
+            final var fields = new HashMap<String, Object>();
+
+            expect('{');
+            if (peek() == '}') {
+                this.position++;
+                return end(fields);
+            }
+
+            while (true) {
+                final var key = string();
+                expect(':');
+                fields.put(key, value());
+
+                final var next = next();
+                if (next == '}') return end(fields);
+                if (next != ',') throw error("Expected ',' or '}'");
+            }
+        }
+
+        private Map<String, Object> end(final Map<String, Object> fields) {
+            skipWhitespace();
+            if (this.position != this.text.length()) throw error("Unexpected content after the object");
+            return fields;
+        }
+
+        private Object value() {
+            final var c = peek();
+
+            if (c == '"') return string();
+            if (this.text.startsWith("true", this.position)) return literal("true", Boolean.TRUE);
+            if (this.text.startsWith("false", this.position)) return literal("false", Boolean.FALSE);
+            if (this.text.startsWith("null", this.position)) return literal("null", null);
+
+            throw error("Only string, boolean and null values are supported");
+        }
+
+        private Object literal(final String literal, final Object value) {
+            this.position += literal.length();
+            return value;
+        }
+
+        private String string() {
+            expect('"');
+            final var value = new StringBuilder();
+
+            while (this.position < this.text.length()) {
+                final var c = this.text.charAt(this.position++);
+
+                if (c == '"') return value.toString();
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+
+                if (this.position >= this.text.length()) break;
+
+                final var escaped = this.text.charAt(this.position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        if (this.position + 4 > this.text.length()) throw error("Invalid unicode escape");
+                        try {
+                            value.append((char) Integer.parseInt(this.text.substring(this.position, this.position + 4), 16));
+                        } catch (final NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        this.position += 4;
+                    }
+                    default -> throw error("Invalid escape '\\%s'".formatted(escaped));
+                }
+            }
+
+            throw error("Unterminated string");
+        }
+
+        private void expect(final char expected) {
+            if (next() != expected) throw error("Expected '%s'".formatted(expected));
+        }
+
+        private char next() {
+            final var c = peek();
+            this.position++;
+            return c;
+        }
+
+        private char peek() {
+            skipWhitespace();
+            if (this.position >= this.text.length()) throw error("Unexpected end of line");
+            return this.text.charAt(this.position);
+        }
+
+        private void skipWhitespace() {
+            while (this.position < this.text.length() && Character.isWhitespace(this.text.charAt(this.position))) {
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException("%s at column %d".formatted(message, this.position + 1));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+    private final CategoryGateway gateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public ChangeFeed<ListCategoryChangesOutput> execute(final ListCategoryChangesCommand command) {
+        return this.gateway.findChangesSince(command.query())
+                .map(ListCategoryChangesOutput::from);
+    }
+}
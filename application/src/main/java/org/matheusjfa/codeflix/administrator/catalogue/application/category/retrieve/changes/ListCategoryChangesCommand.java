@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+
+public record ListCategoryChangesCommand(CategoryChangesQuery query) {
+    public static ListCategoryChangesCommand with(final CategoryChangesQuery query) {
+        return new ListCategoryChangesCommand(query);
+    }
+}
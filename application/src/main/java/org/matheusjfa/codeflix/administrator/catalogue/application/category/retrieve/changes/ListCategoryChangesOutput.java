@@ -0,0 +1,34 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+
+import java.time.Instant;
+
+public record ListCategoryChangesOutput(CategoryID id,
+                                        boolean removed,
+                                        String name,
+                                        String description,
+                                        boolean isActive,
+                                        Instant createdAt,
+                                        Instant updatedAt,
+                                        Instant deletedAt) {
+    public static ListCategoryChangesOutput from(final CategoryFeedItem item) {
+        if (item.isTombstone()) {
+            return new ListCategoryChangesOutput(item.id(), true, null, null, false, null, item.changedAt(), null);
+        }
+
+        final var category = item.category();
+
+        return new ListCategoryChangesOutput(
+                category.getId(),
+                false,
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt()
+        );
+    }
+}
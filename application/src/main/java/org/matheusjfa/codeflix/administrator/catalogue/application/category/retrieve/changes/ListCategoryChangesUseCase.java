@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+
+public abstract class ListCategoryChangesUseCase extends UseCase<ListCategoryChangesCommand, ChangeFeed<ListCategoryChangesOutput>> {
+}
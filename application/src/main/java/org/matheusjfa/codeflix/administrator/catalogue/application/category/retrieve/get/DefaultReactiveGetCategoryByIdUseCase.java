@@ -0,0 +1,32 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveGetCategoryByIdUseCase extends ReactiveGetCategoryByIdUseCase {
+    private final ReactiveCategoryGateway gateway;
+
+    public DefaultReactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<GetCategoryByIdOutput> execute(final GetCategoryByIdCommand command) {
+        final var id = CategoryID.from(command.id());
+
+        return this.gateway.findById(id)
+                .map(GetCategoryByIdOutput::from)
+                .switchIfEmpty(Mono.error(() -> categoryNotFound(id)));
+    }
+
+    private DomainException categoryNotFound(final CategoryID id) {
+        return DomainException.with(
+                new Error("Category with ID %s was not found".formatted(id.getValue()))
+        );
+    }
+}
@@ -11,7 +11,8 @@ public record GetCategoryByIdOutput(CategoryID id,
                                 boolean isActive,
                                 Instant createdAt,
                                 Instant updatedAt,
-                                Instant deletedAt) {
+                                Instant deletedAt,
+                                long version) {
     public static GetCategoryByIdOutput from(final Category category) {
         return new GetCategoryByIdOutput(category.getId(),
                 category.getName(),
@@ -19,7 +20,8 @@ public record GetCategoryByIdOutput(CategoryID id,
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 }
@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveGetCategoryByIdUseCase extends UseCase<GetCategoryByIdCommand, Mono<GetCategoryByIdOutput>> {
+}
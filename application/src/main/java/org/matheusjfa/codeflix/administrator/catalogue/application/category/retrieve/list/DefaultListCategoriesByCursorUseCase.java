@@ -0,0 +1,22 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+
+import java.util.Objects;
+
+public class DefaultListCategoriesByCursorUseCase extends ListCategoriesByCursorUseCase {
+    private final CategoryGateway gateway;
+
+    public DefaultListCategoriesByCursorUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public CursorPagination<ListCategoriesOutput> execute(final ListCategoriesByCursorCommand command) {
+        final var query = command.query();
+
+        return this.gateway.findAllAfter(query)
+                .map(ListCategoriesOutput::from);
+    }
+}
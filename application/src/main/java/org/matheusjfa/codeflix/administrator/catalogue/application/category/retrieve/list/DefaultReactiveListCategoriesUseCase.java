@@ -0,0 +1,21 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveListCategoriesUseCase extends ReactiveListCategoriesUseCase {
+    private final ReactiveCategoryGateway gateway;
+
+    public DefaultReactiveListCategoriesUseCase(final ReactiveCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<Pagination<ListCategoriesOutput>> execute(final ListCategoriesCommand command) {
+        return this.gateway.findAll(command.query())
+                .map(page -> page.map(ListCategoriesOutput::from));
+    }
+}
@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+
+public record ListCategoriesByCursorCommand(CategoryCursorQuery query) {
+    public static ListCategoriesByCursorCommand with(final CategoryCursorQuery query) {
+        return new ListCategoriesByCursorCommand(query);
+    }
+}
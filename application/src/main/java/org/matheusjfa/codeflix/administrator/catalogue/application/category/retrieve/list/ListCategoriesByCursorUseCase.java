@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+
+public abstract class ListCategoriesByCursorUseCase extends UseCase<ListCategoriesByCursorCommand, CursorPagination<ListCategoriesOutput>> {
+}
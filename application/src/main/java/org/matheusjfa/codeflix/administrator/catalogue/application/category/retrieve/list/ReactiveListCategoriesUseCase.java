@@ -0,0 +1,8 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveListCategoriesUseCase extends UseCase<ListCategoriesCommand, Mono<Pagination<ListCategoriesOutput>>> {
+}
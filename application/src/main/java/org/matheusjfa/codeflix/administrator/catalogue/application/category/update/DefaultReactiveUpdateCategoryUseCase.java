@@ -0,0 +1,63 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveUpdateCategoryUseCase extends ReactiveUpdateCategoryUseCase {
+    private final ReactiveCategoryGateway gateway;
+
+    public DefaultReactiveUpdateCategoryUseCase(final ReactiveCategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Mono<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand command) {
+        final var patch = CategoryPatch.with(
+                command.id(),
+                command.name(),
+                command.description(),
+                command.isActive(),
+                command.version()
+        );
+
+        final var notification = Notification.create();
+
+        patch.validate(notification);
+
+        return notification.hasErrors() ? Mono.just(Either.left(notification)) : update(patch);
+    }
+
+    // Same outcomes as DefaultUpdateCategoryUseCase: a missing category is an error, a conflict is a notification
+    private Mono<Either<Notification, UpdateCategoryOutput>> update(final CategoryPatch patch) {
+        return this.gateway.patch(patch)
+                .flatMap(result -> switch (result) {
+                    case NOT_FOUND -> Mono.<Either<Notification, UpdateCategoryOutput>>error(categoryNotFound(patch.id()));
+                    case CONFLICT -> Mono.just(Either.<Notification, UpdateCategoryOutput>left(Notification.create(versionConflict(patch))));
+                    default -> Mono.just(Either.<Notification, UpdateCategoryOutput>right(UpdateCategoryOutput.from(patch, result)));
+                })
+                .onErrorResume(
+                        throwable -> !(throwable instanceof DomainException),
+                        throwable -> Mono.just(Either.left(Notification.create(throwable)))
+                );
+    }
+
+    private Error versionConflict(final CategoryPatch patch) {
+        return new Error("Category with ID %s was changed by someone else, expected version %d"
+                .formatted(patch.id().getValue(), patch.expectedVersion()));
+    }
+
+    private DomainException categoryNotFound(final CategoryID id) {
+        return DomainException.with(
+                new Error("Category with ID %s was not found".formatted(id.getValue()))
+        );
+    }
+}
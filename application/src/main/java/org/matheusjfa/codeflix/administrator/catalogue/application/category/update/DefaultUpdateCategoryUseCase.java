@@ -2,9 +2,10 @@ package org.matheusjfa.codeflix.administrator.catalogue.application.category.upd
 
 import io.vavr.API;
 import io.vavr.control.Either;
-import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
@@ -25,24 +26,37 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var name = command.name();
         final var description = command.description();
         final var isActive = command.isActive();
+        final var version = command.version();
 
-        final var category = this.gateway.findById(id)
-                .map(c -> c.update(name, description, isActive))
-                .orElseThrow(categoryNotFound(id));
+        final var patch = CategoryPatch.with(id, name, description, isActive, version);
 
         final var notification = Notification.create();
 
-        category.update(name, description, isActive)
-                .validate(notification);
-
-        return notification.hasErrors() ? Either.left(notification) : update(category);
+        patch.validate(notification);
 
+        return notification.hasErrors() ? Either.left(notification) : update(patch);
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return API.Try(() -> this.gateway.update(category))
+    // The gateway applies the patch with a single conditional UPDATE, so there is nothing to load beforehand
+    private Either<Notification, UpdateCategoryOutput> update(final CategoryPatch patch) {
+        final var result = API.Try(() -> this.gateway.patch(patch))
                 .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+                .mapLeft(Notification::create);
+
+        if (result.isRight() && result.get() == CategoryPatchResult.NOT_FOUND) {
+            throw categoryNotFound(patch.id()).get();
+        }
+
+        if (result.isRight() && result.get() == CategoryPatchResult.CONFLICT) {
+            return Either.left(Notification.create(versionConflict(patch)));
+        }
+
+        return result.map(patchResult -> UpdateCategoryOutput.from(patch, patchResult));
+    }
+
+    private Error versionConflict(final CategoryPatch patch) {
+        return new Error("Category with ID %s was changed by someone else, expected version %d"
+                .formatted(patch.id().getValue(), patch.expectedVersion()));
     }
 
     private Supplier<DomainException> categoryNotFound(final CategoryID id) {
@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveUpdateCategoryUseCase extends UseCase<UpdateCategoryCommand, Mono<Either<Notification, UpdateCategoryOutput>>> {
+}
@@ -5,11 +5,20 @@ import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryI
 public record UpdateCategoryCommand(CategoryID id,
                                     String name,
                                     String description,
-                                    boolean isActive) {
+                                    boolean isActive,
+                                    Long version) {
     public static UpdateCategoryCommand with(final CategoryID id,
                                              final String name,
                                              final String description,
                                              final boolean isActive) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(final CategoryID id,
+                                             final String name,
+                                             final String description,
+                                             final boolean isActive,
+                                             final Long version) {
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 }
@@ -2,11 +2,31 @@ package org.matheusjfa.codeflix.administrator.catalogue.application.category.upd
 
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
 
-public record UpdateCategoryOutput(CategoryID id) {
+// version is the one the category is at after the update, to send with the next one. It is null for an unversioned
+// update, whose patch never reads the row it writes
+public record UpdateCategoryOutput(CategoryID id, Long version) {
     public static UpdateCategoryOutput from(final Category category) {
         return new UpdateCategoryOutput(
-                category.getId()
+                category.getId(),
+                category.getVersion()
         );
     }
+
+    public static UpdateCategoryOutput from(final CategoryID id) {
+        return new UpdateCategoryOutput(id, null);
+    }
+
+    // A versioned patch only applies to the expected version and bumps it by one, an unchanged one leaves it as is
+    public static UpdateCategoryOutput from(final CategoryPatch patch, final CategoryPatchResult result) {
+        if (!patch.isVersioned()) return from(patch.id());
+
+        final var version = result == CategoryPatchResult.UPDATED
+                ? patch.expectedVersion() + 1
+                : patch.expectedVersion();
+
+        return new UpdateCategoryOutput(patch.id(), version);
+    }
 }
@@ -0,0 +1,42 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status;
+
+import io.vavr.API;
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public class DefaultUpdateCategoriesStatusUseCase extends UpdateCategoriesStatusUseCase {
+    private final CategoryGateway gateway;
+
+    public DefaultUpdateCategoriesStatusUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoriesStatusOutput> execute(final UpdateCategoriesStatusCommand command) {
+        final var ids = command.ids();
+        final var terms = command.terms();
+        final var isActive = command.isActive();
+
+        if (ids != null && !ids.isEmpty()) {
+            return update(() -> this.gateway.updateStatusByIds(ids, isActive));
+        }
+
+        // An empty filter would change every category, so it has to be asked for explicitly
+        if (terms != null && !terms.isBlank()) {
+            return update(() -> this.gateway.updateStatusByTerms(terms, isActive));
+        }
+
+        return Either.left(Notification.create(new Error("'ids' or 'terms' should be informed")));
+    }
+
+    private Either<Notification, UpdateCategoriesStatusOutput> update(final CheckedFunction0<Long> update) {
+        return API.Try(update)
+                .toEither()
+                .bimap(Notification::create, UpdateCategoriesStatusOutput::from);
+    }
+}
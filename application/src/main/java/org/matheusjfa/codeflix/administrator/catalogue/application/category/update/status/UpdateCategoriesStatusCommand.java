@@ -0,0 +1,15 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+
+import java.util.List;
+
+public record UpdateCategoriesStatusCommand(List<CategoryID> ids, String terms, boolean isActive) {
+    public static UpdateCategoriesStatusCommand withIds(final List<CategoryID> ids, final boolean isActive) {
+        return new UpdateCategoriesStatusCommand(ids, null, isActive);
+    }
+
+    public static UpdateCategoriesStatusCommand withTerms(final String terms, final boolean isActive) {
+        return new UpdateCategoriesStatusCommand(List.of(), terms, isActive);
+    }
+}
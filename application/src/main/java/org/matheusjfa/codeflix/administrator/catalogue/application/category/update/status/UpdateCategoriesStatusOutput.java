@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status;
+
+public record UpdateCategoriesStatusOutput(long affected) {
+    public static UpdateCategoriesStatusOutput from(final long affected) {
+        return new UpdateCategoriesStatusOutput(affected);
+    }
+}
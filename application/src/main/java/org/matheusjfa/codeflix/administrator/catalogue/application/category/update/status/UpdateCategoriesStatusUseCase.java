@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status;
+
+import io.vavr.control.Either;
+import org.matheusjfa.codeflix.administrator.catalogue.application.UseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.handler.Notification;
+
+public abstract class UpdateCategoriesStatusUseCase extends UseCase<UpdateCategoriesStatusCommand, Either<Notification, UpdateCategoriesStatusOutput>> { }
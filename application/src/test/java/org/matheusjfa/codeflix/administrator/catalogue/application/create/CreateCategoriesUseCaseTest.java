@@ -0,0 +1,135 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.create;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.DefaultCreateCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+    /**
+     * Test Scenarios
+     * 1) Create every category when all items are valid
+     * 2) Create only the valid categories and report the invalid items by position
+     * 3) Don't call the gateway when every item is invalid
+     * 4) Report every valid item when the gateway throws an exception
+     * */
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenValidItems_whenCallsCreateCategories_thenShouldCreateAll() {
+        // Arrange
+        final var expectedCreated = 3;
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Category 1", "Description 1", true),
+                CreateCategoryCommand.with("Category 2", "Description 2", false),
+                CreateCategoryCommand.with("Category 3", null, true)
+        ));
+
+        Mockito.when(gateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedCreated, output.created().size());
+        Assertions.assertFalse(output.hasErrors());
+
+        Mockito.verify(gateway, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == expectedCreated));
+        Mockito.verify(gateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenSomeInvalidItems_whenCallsCreateCategories_thenShouldReportPartialSuccess() {
+        // Arrange
+        final var expectedCreated = 2;
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Category 1", "Description 1", true),
+                CreateCategoryCommand.with(null, "Description 2", true),
+                CreateCategoryCommand.with("Category 3", "Description 3", true)
+        ));
+
+        Mockito.when(gateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedCreated, output.created().size());
+        Assertions.assertEquals(1, output.errors().size());
+        Assertions.assertEquals(expectedErrorMessage, output.errors().get(1).getErrors().get(0).message());
+
+        Mockito.verify(gateway, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == expectedCreated));
+    }
+
+    @Test
+    public void givenOnlyInvalidItems_whenCallsCreateCategories_thenShouldNotCallGateway() {
+        // Arrange
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with(null, "Description 1", true),
+                CreateCategoryCommand.with("  ", "Description 2", true)
+        ));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertTrue(output.created().isEmpty());
+        Assertions.assertEquals(2, output.errors().size());
+
+        Mockito.verify(gateway, Mockito.never()).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenValidItems_whenGatewayThrowsException_thenShouldReportEveryValidItem() {
+        // Arrange
+        final var expectedErrorMessage = "Error on creating categories";
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Category 1", "Description 1", true),
+                CreateCategoryCommand.with(null, "Description 2", true),
+                CreateCategoryCommand.with("Category 3", "Description 3", true)
+        ));
+
+        Mockito.when(gateway.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertTrue(output.created().isEmpty());
+        Assertions.assertEquals(List.of(0, 1, 2), List.copyOf(output.errors().keySet()));
+        Assertions.assertEquals(expectedErrorMessage, output.errors().get(0).getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, output.errors().get(2).getErrors().get(0).message());
+    }
+}
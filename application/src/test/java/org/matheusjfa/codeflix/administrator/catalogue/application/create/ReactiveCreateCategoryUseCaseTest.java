@@ -0,0 +1,86 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.create;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.DefaultReactiveCreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveCreateCategoryUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Create a category when passing valid params
+     * 2) Return a notification without calling the gateway when passing invalid params
+     * 3) Return a notification when the gateway signals an error
+     */
+
+    @InjectMocks
+    private DefaultReactiveCreateCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() {
+        // Arrange
+        final var command = CreateCategoryCommand.with("Movies", "Movies Category", true);
+
+        Mockito.when(gateway.create(Mockito.any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act
+        final var output = useCase.execute(command).block().get();
+
+        // Assert
+        Assertions.assertNotNull(output.id());
+        Mockito.verify(gateway, Mockito.times(1)).create(Mockito.argThat(category ->
+                "Movies".equals(category.getName())
+                        && "Movies Category".equals(category.getDescription())
+                        && category.isActive()
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsCreateCategory_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "'name' should not be null";
+        final var command = CreateCategoryCommand.with(null, "Movies Category", true);
+
+        // Act
+        final var notification = useCase.execute(command).block().getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategory_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "Gateway Error";
+        final var command = CreateCategoryCommand.with("Movies", "Movies Category", true);
+
+        Mockito.when(gateway.create(Mockito.any(Category.class)))
+                .thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+
+        // Act
+        final var notification = useCase.execute(command).block().getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,70 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.delete;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DefaultReactiveDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveDeleteCategoryUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Delete a category when it exists
+     * 2) Signal a DomainException when the category doesn't exist
+     */
+
+    @InjectMocks
+    private DefaultReactiveDeleteCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallsDeleteCategory_thenShouldReturnTheDeletedId() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies Category", true);
+
+        Mockito.when(gateway.deleteById(category.getId())).thenReturn(Mono.just(category.getId()));
+
+        // Act
+        final var output = useCase.execute(DeleteCategoryCommand.with(category.getId().getValue())).block();
+
+        // Assert
+        Assertions.assertEquals(category.getId().getValue(), output.id());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsDeleteCategory_thenShouldSignalDomainException() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(id.getValue());
+
+        Mockito.when(gateway.deleteById(id)).thenReturn(Mono.empty());
+
+        // Act
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(DeleteCategoryCommand.with(id.getValue())).block()
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+}
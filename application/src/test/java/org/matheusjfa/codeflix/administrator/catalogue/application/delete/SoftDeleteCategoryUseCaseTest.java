@@ -0,0 +1,76 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.delete;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.SoftDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SoftDeleteCategoryUseCaseTest {
+    /**
+     * Test Scenarios
+     * 1) Soft delete a category when passing a valid ID
+     * 2) Throw an exception when the category doesn't exist
+     * */
+
+    @InjectMocks
+    private SoftDeleteCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAValidID_whenCallsDeleteCategory_thenShouldSoftDeleteWithoutLoading() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var command = DeleteCategoryCommand.with(id.getValue());
+
+        Mockito.when(gateway.softDeleteById(Mockito.eq(id)))
+                .thenReturn(true);
+
+        // Act
+        final var output = Assertions.assertDoesNotThrow(() -> useCase.execute(command));
+
+        // Assert
+        Assertions.assertEquals(id.getValue(), output.id());
+
+        Mockito.verify(gateway, Mockito.times(1)).softDeleteById(Mockito.eq(id));
+        Mockito.verify(gateway, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(gateway, Mockito.never()).deleteById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidID_whenCallsDeleteCategory_thenShouldThrowAnException() {
+        // Arrange
+        final var invalidID = CategoryID.from("invalid-id");
+
+        final var expectedMessageError = "Category with ID %s was not found".formatted(invalidID.getValue());
+        final var expectedErrorCount = 1;
+
+        final var command = DeleteCategoryCommand.with(invalidID.getValue());
+
+        Mockito.when(gateway.softDeleteById(Mockito.any()))
+                .thenReturn(false);
+
+        // Act
+        final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorCount, exception.getErrors().size());
+        Assertions.assertEquals(expectedMessageError, exception.getErrors().get(0).message());
+    }
+}
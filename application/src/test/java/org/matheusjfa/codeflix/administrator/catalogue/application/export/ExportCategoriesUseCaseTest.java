@@ -0,0 +1,114 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.export;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.export.DefaultExportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.export.ExportCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Export the streamed categories as gzip NDJSON
+     * 2) Export nothing and still write a valid gzip stream
+     * 3) Return a notification when the gateway fails mid-stream
+     */
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenStreamedCategories_whenCallsExportCategories_thenShouldWriteOneJsonLinePerCategory() throws IOException {
+        // Arrange
+        final var categories = List.of(
+                Category.create("Movies", "Line\nbreak and \"quotes\"", true),
+                Category.create("Series", null, false)
+        );
+
+        final var query = new CategorySearchQuery(0, 0, "", "name", "asc");
+        final var output = new ByteArrayOutputStream();
+
+        Mockito.when(gateway.streamAll(Mockito.eq(query), Mockito.any())).thenAnswer(invocation -> {
+            final Consumer<Category> consumer = invocation.getArgument(1);
+            categories.forEach(consumer);
+            return (long) categories.size();
+        });
+
+        // Act
+        final var result = useCase.execute(ExportCategoriesCommand.with(query, output)).get();
+
+        // Assert
+        Assertions.assertEquals(2, result.exported());
+
+        final var lines = gunzip(output.toByteArray()).lines().toList();
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).startsWith("{\"id\":\"" + categories.get(0).getId().getValue() + "\",\"name\":\"Movies\""));
+        Assertions.assertTrue(lines.get(0).contains("\"description\":\"Line\\nbreak and \\\"quotes\\\"\""));
+        Assertions.assertTrue(lines.get(1).contains("\"description\":null,\"isActive\":false"));
+    }
+
+    @Test
+    public void givenNoCategories_whenCallsExportCategories_thenShouldWriteAnEmptyGzipStream() throws IOException {
+        // Arrange
+        final var query = new CategorySearchQuery(0, 0, "", "name", "asc");
+        final var output = new ByteArrayOutputStream();
+
+        Mockito.when(gateway.streamAll(Mockito.any(), Mockito.any())).thenReturn(0L);
+
+        // Act
+        final var result = useCase.execute(ExportCategoriesCommand.with(query, output)).get();
+
+        // Assert
+        Assertions.assertEquals(0, result.exported());
+        Assertions.assertEquals("", gunzip(output.toByteArray()));
+    }
+
+    @Test
+    public void givenAFailingGateway_whenCallsExportCategories_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "Cursor was closed";
+        final var query = new CategorySearchQuery(0, 0, "", "name", "asc");
+
+        Mockito.when(gateway.streamAll(Mockito.any(), Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // Act
+        final var notification = useCase.execute(ExportCategoriesCommand.with(query, new ByteArrayOutputStream())).getLeft();
+
+        // Assert
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (final var input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.imports;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.imports.DefaultImportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.imports.ImportCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.imports.ImportFormat;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Import every line of a valid CSV in chunks
+     * 2) Import every line of a valid NDJSON stream
+     * 3) Reject malformed and invalid lines without aborting the import
+     * 4) Reject a whole batch when the gateway fails to store it
+     * 5) Return a notification when the input stream fails
+     * 6) Return a notification instead of blocking when the writer stops with an error
+     */
+
+    @Mock
+    private CategoryGateway gateway;
+
+    private DefaultImportCategoriesUseCase useCase;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+        // Small chunks so even short inputs go through several batches
+        this.useCase = new DefaultImportCategoriesUseCase(gateway, 2, 2, 1, 100);
+    }
+
+    @Test
+    public void givenAValidCsv_whenCallsImportCategories_thenShouldStoreEveryLine() {
+        // Arrange
+        final var csv = """
+                name,description,isActive
+                Movies,Movies Category,true
+                "Series, TV","Quoted ""description""",false
+
+                Documentary,,
+                Animes,Anime Category,TRUE
+                Cartoon,Cartoons Category,false
+                """;
+
+        final var stored = captureCreateAll();
+
+        // Act
+        final var output = useCase.execute(ImportCategoriesCommand.with(input(csv), ImportFormat.CSV)).get();
+
+        // Assert
+        Assertions.assertEquals(5, output.imported());
+        Assertions.assertEquals(0, output.rejected());
+        Assertions.assertFalse(output.hasErrors());
+        Assertions.assertEquals(5, stored.size());
+
+        final var series = find(stored, "Series, TV");
+        Assertions.assertEquals("Quoted \"description\"", series.getDescription());
+        Assertions.assertFalse(series.isActive());
+
+        final var documentary = find(stored, "Documentary");
+        Assertions.assertTrue(documentary.isActive());
+    }
+
+    @Test
+    public void givenAValidNdjson_whenCallsImportCategories_thenShouldStoreEveryLine() {
+        // Arrange
+        final var ndjson = """
+                {"name":"Movies","description":"Movies Category","isActive":true}
+                {"isActive":false,"name":"Series \\"TV\\"","description":null}
+                {"name":"Documentary"}
+                """;
+
+        final var stored = captureCreateAll();
+
+        // Act
+        final var output = useCase.execute(ImportCategoriesCommand.with(input(ndjson), ImportFormat.NDJSON)).get();
+
+        // Assert
+        Assertions.assertEquals(3, output.imported());
+        Assertions.assertEquals(0, output.rejected());
+
+        final var series = find(stored, "Series \"TV\"");
+        Assertions.assertNull(series.getDescription());
+        Assertions.assertFalse(series.isActive());
+        Assertions.assertTrue(find(stored, "Documentary").isActive());
+    }
+
+    @Test
+    public void givenInvalidLines_whenCallsImportCategories_thenShouldRejectOnlyThoseLines() {
+        // Arrange
+        final var csv = """
+                name,description,isActive
+                Movies,Movies Category,true
+                ,Without a name,true
+                Series,Series Category,maybe
+                "Unclosed,Quote,true
+                Documentary,Documentary Category,false
+                """;
+
+        final var stored = captureCreateAll();
+
+        // Act
+        final var output = useCase.execute(ImportCategoriesCommand.with(input(csv), ImportFormat.CSV)).get();
+
+        // Assert
+        Assertions.assertEquals(2, output.imported());
+        Assertions.assertEquals(3, output.rejected());
+        Assertions.assertEquals(List.of(3L, 4L, 5L), List.copyOf(output.errors().keySet()));
+        Assertions.assertEquals("'name' should not be null", output.errors().get(3L).getErrors().get(0).message());
+        Assertions.assertEquals(
+                "'isActive' should be true or false but was 'maybe'",
+                output.errors().get(4L).getErrors().get(0).message()
+        );
+        Assertions.assertEquals(2, stored.size());
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsImportCategories_thenShouldRejectTheWholeBatch() {
+        // Arrange
+        final var ndjson = """
+                {"name":"Movies"}
+                {"name":"Series"}
+                {"name":"Documentary"}
+                """;
+
+        final var expectedErrorMessage = "Gateway Error";
+
+        // A single validator keeps the batches in input order
+        final var useCase = new DefaultImportCategoriesUseCase(gateway, 2, 1, 1, 100);
+
+        Mockito.when(gateway.createAll(Mockito.anyList()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        final var output = useCase.execute(ImportCategoriesCommand.with(input(ndjson), ImportFormat.NDJSON)).get();
+
+        // Assert
+        Assertions.assertEquals(1, output.imported());
+        Assertions.assertEquals(2, output.rejected());
+        Assertions.assertEquals(1, output.errors().size());
+        Assertions.assertEquals(expectedErrorMessage, output.errors().get(-1L).getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.times(2)).createAll(Mockito.anyList());
+    }
+
+    @Test
+    public void givenABrokenInputStream_whenCallsImportCategories_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "Connection reset";
+
+        final var broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException(expectedErrorMessage);
+            }
+        };
+
+        // Act
+        final var notification = useCase.execute(ImportCategoriesCommand.with(broken, ImportFormat.NDJSON)).getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.never()).createAll(Mockito.anyList());
+    }
+
+    @Test
+    public void givenAWriterThatStops_whenCallsImportCategories_thenShouldReturnANotificationWithoutBlocking() {
+        // Arrange
+        final var expectedErrorMessage = "Writer crashed";
+
+        // Far more chunks than the validators and the queue can hold once the writer is gone
+        final var ndjson = IntStream.range(0, 50)
+                .mapToObj(i -> "{\"name\":\"Category %d\"}".formatted(i))
+                .collect(Collectors.joining("\n"));
+
+        Mockito.when(gateway.createAll(Mockito.anyList())).thenThrow(new AssertionError(expectedErrorMessage));
+
+        // Act
+        final var notification = Assertions.assertTimeoutPreemptively(
+                Duration.ofSeconds(10),
+                () -> useCase.execute(ImportCategoriesCommand.with(input(ndjson), ImportFormat.NDJSON)).getLeft()
+        );
+
+        // Assert
+        Assertions.assertTrue(notification.getErrors().get(0).message().contains(expectedErrorMessage));
+        Mockito.verify(gateway, Mockito.times(1)).createAll(Mockito.anyList());
+    }
+
+    private List<Category> captureCreateAll() {
+        final var stored = new CopyOnWriteArrayList<Category>();
+
+        Mockito.when(gateway.createAll(Mockito.anyList())).thenAnswer(invocation -> {
+            final List<Category> batch = invocation.getArgument(0);
+            stored.addAll(batch);
+            return batch;
+        });
+
+        return stored;
+    }
+
+    private static Category find(final List<Category> categories, final String name) {
+        return categories.stream()
+                .filter(category -> name.equals(category.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static InputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
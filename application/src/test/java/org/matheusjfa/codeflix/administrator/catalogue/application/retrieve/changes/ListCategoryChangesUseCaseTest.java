@@ -0,0 +1,116 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.retrieve.changes;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes.ListCategoryChangesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoryChangesUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Retrieve the changed categories and tombstones with the watermark to resume from
+     * 2) Retrieve an empty batch keeping the watermark
+     * 3) Throws an exception when trying to retrieve the changes
+     */
+
+    @InjectMocks
+    private DefaultListCategoryChangesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAWatermark_whenCallsListCategoryChanges_thenShouldReturnChangesAndTombstones() {
+        // Arrange
+        final var expectedWatermark = "next-watermark";
+        final var changed = Category.create("Category 1", "Category 1 Description", true);
+        final var removedId = CategoryID.generate();
+        final var removedAt = Instant.now();
+
+        final var query = new CategoryChangesQuery("watermark", 2);
+        final var command = ListCategoryChangesCommand.with(query);
+
+        Mockito.when(gateway.findChangesSince(Mockito.any()))
+                .thenReturn(new ChangeFeed<>(
+                        List.of(CategoryFeedItem.changed(changed), CategoryFeedItem.removed(removedId, removedAt)),
+                        expectedWatermark,
+                        true
+                ));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedWatermark, output.watermark());
+        Assertions.assertTrue(output.hasMore());
+        Assertions.assertEquals(2, output.items().size());
+
+        final var first = output.items().get(0);
+        Assertions.assertEquals(changed.getId(), first.id());
+        Assertions.assertFalse(first.removed());
+        Assertions.assertEquals(changed.getName(), first.name());
+
+        final var second = output.items().get(1);
+        Assertions.assertEquals(removedId, second.id());
+        Assertions.assertTrue(second.removed());
+        Assertions.assertNull(second.name());
+        Assertions.assertEquals(removedAt, second.updatedAt());
+
+        Mockito.verify(gateway, Mockito.times(1)).findChangesSince(Mockito.eq(query));
+    }
+
+    @Test
+    public void givenTheLatestWatermark_whenCallsListCategoryChanges_thenShouldKeepTheWatermark() {
+        // Arrange
+        final var expectedWatermark = "latest-watermark";
+        final var command = ListCategoryChangesCommand.with(new CategoryChangesQuery(expectedWatermark, 100));
+
+        Mockito.when(gateway.findChangesSince(Mockito.any()))
+                .thenReturn(new ChangeFeed<>(List.<CategoryFeedItem>of(), expectedWatermark, false));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedWatermark, output.watermark());
+        Assertions.assertFalse(output.hasMore());
+        Assertions.assertTrue(output.items().isEmpty());
+    }
+
+    @Test
+    public void givenAWatermark_whenGatewayThrowsAnException_thenShouldThrowAnException() {
+        // Arrange
+        final var expectedMessageError = "Error on retrieving changes";
+        final var command = ListCategoryChangesCommand.with(new CategoryChangesQuery(null, 100));
+
+        Mockito.when(gateway.findChangesSince(Mockito.any())).thenThrow(new RuntimeException(expectedMessageError));
+
+        // Act
+        final var exception = Assertions.assertThrows(RuntimeException.class, () -> useCase.execute(command));
+
+        // Assert
+        Assertions.assertEquals(expectedMessageError, exception.getMessage());
+    }
+}
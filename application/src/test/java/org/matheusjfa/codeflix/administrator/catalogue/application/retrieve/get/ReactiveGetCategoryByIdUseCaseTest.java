@@ -0,0 +1,72 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.retrieve.get;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveGetCategoryByIdUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Return the category when it exists
+     * 2) Signal a DomainException when the category doesn't exist
+     */
+
+    @InjectMocks
+    private DefaultReactiveGetCategoryByIdUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallsGetCategoryById_thenShouldReturnTheCategory() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies Category", true);
+
+        Mockito.when(gateway.findById(category.getId())).thenReturn(Mono.just(category));
+
+        // Act
+        final var output = useCase.execute(GetCategoryByIdCommand.with(category.getId().getValue())).block();
+
+        // Assert
+        Assertions.assertEquals(category.getId(), output.id());
+        Assertions.assertEquals(category.getName(), output.name());
+        Assertions.assertEquals(category.getDescription(), output.description());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetCategoryById_thenShouldSignalDomainException() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(id.getValue());
+
+        Mockito.when(gateway.findById(id)).thenReturn(Mono.empty());
+
+        // Act
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(GetCategoryByIdCommand.with(id.getValue())).block()
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,109 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.retrieve.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultListCategoriesByCursorUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesByCursorCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesOutput;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoriesByCursorUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Retrieve a page of categories with the cursor to the next one
+     * 2) Retrieve the last page of categories without a next cursor
+     * 3) Throws an exception when trying to retrieve the categories
+     */
+
+    @InjectMocks
+    private DefaultListCategoriesByCursorUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesByCursor_thenShouldReturnCategoriesAndNextCursor() {
+        // Arrange
+        final var expectedPerPage = 2;
+        final var expectedNextCursor = "next-cursor";
+
+        final var categories = List.of(
+                Category.create("Category 1", "Category 1 Description", true),
+                Category.create("Category 2", "Category 2 Description", false)
+        );
+        final var expectedItems = categories.stream().map(ListCategoriesOutput::from).toList();
+
+        final var query = new CategoryCursorQuery(expectedPerPage, null, "", "name", "asc");
+        final var command = ListCategoriesByCursorCommand.with(query);
+
+        Mockito.when(gateway.findAllAfter(Mockito.any()))
+                .thenReturn(new CursorPagination<>(expectedPerPage, expectedNextCursor, categories));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedPerPage, output.perPage());
+        Assertions.assertEquals(expectedNextCursor, output.nextCursor());
+        Assertions.assertTrue(output.hasNext());
+        Assertions.assertEquals(expectedItems, output.items());
+
+        Mockito.verify(gateway, Mockito.times(1)).findAllAfter(Mockito.eq(query));
+    }
+
+    @Test
+    public void givenTheLastCursor_whenCallsListCategoriesByCursor_thenShouldReturnNoNextCursor() {
+        // Arrange
+        final var expectedPerPage = 2;
+
+        final var query = new CategoryCursorQuery(expectedPerPage, "last-cursor", "", "name", "asc");
+        final var command = ListCategoriesByCursorCommand.with(query);
+
+        Mockito.when(gateway.findAllAfter(Mockito.any()))
+                .thenReturn(new CursorPagination<>(expectedPerPage, null, List.<Category>of()));
+
+        // Act
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedPerPage, output.perPage());
+        Assertions.assertNull(output.nextCursor());
+        Assertions.assertFalse(output.hasNext());
+        Assertions.assertTrue(output.items().isEmpty());
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsAnException_thenShouldThrowAnException() {
+        // Arrange
+        final var expectedMessageError = "Error on retrieving categories";
+
+        final var query = new CategoryCursorQuery(2, null, "", "name", "asc");
+        final var command = ListCategoriesByCursorCommand.with(query);
+
+        Mockito.when(gateway.findAllAfter(Mockito.any())).thenThrow(new RuntimeException(expectedMessageError));
+
+        // Act
+        final var exception = Assertions.assertThrows(RuntimeException.class, () -> useCase.execute(command));
+
+        // Assert
+        Assertions.assertEquals(expectedMessageError, exception.getMessage());
+    }
+}
@@ -26,6 +26,7 @@ public class ListCategoriesUseCaseTest {
      * 1) Retrieve all categories with pagination
      * 2) Retrieve an empty list of categories
      * 3) Throws an exception when trying to retrieve all categories
+     * 4) Retrieve a slice of categories without counting the total
      */
 
     @InjectMocks
@@ -112,6 +113,36 @@ public class ListCategoriesUseCaseTest {
         Assertions.assertTrue(output.items().isEmpty());
     }
 
+    @Test
+    public void givenAQueryWithoutTotal_whenCallsListCategories_thenShouldReturnASlice() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedHasNext = true;
+
+        final var categories = createCategories();
+        final var expectedCategories = categories.stream().map(ListCategoriesOutput::from).toList();
+
+        // Act
+        final var query = new CategorySearchQuery(expectedPage, expectedPerPage, "", "createdAt", "asc").withoutTotal();
+        final var command = ListCategoriesCommand.with(query);
+
+        final var expectedPagination = Pagination.slice(expectedPage, expectedPerPage, categories, expectedHasNext);
+
+        Mockito.when(repository.findAll(Mockito.any())).thenReturn(expectedPagination);
+
+        final var output = useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(expectedPage, output.currentPage());
+        Assertions.assertEquals(expectedPerPage, output.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, output.total());
+        Assertions.assertEquals(expectedHasNext, output.hasNext());
+        Assertions.assertEquals(expectedCategories, output.items());
+
+        Mockito.verify(repository, Mockito.times(1)).findAll(Mockito.argThat(q -> !q.withTotal()));
+    }
+
     @Test
     public void givenAValidParams_whenRepositoryThrowsAnException_thenShouldThrowAnException() {
         // Arrange
@@ -0,0 +1,80 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.retrieve.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesOutput;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveListCategoriesUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Return the page mapped to outputs
+     * 2) Propagate the gateway error
+     */
+
+    @InjectMocks
+    private DefaultReactiveListCategoriesUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategories_thenShouldReturnThePage() {
+        // Arrange
+        final var categories = List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", null, false)
+        );
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var page = new Pagination<>(0, 10, 2, categories);
+
+        Mockito.when(gateway.findAll(query)).thenReturn(Mono.just(page));
+
+        // Act
+        final var result = useCase.execute(ListCategoriesCommand.with(query)).block();
+
+        // Assert
+        Assertions.assertEquals(page.map(ListCategoriesOutput::from), result);
+        Assertions.assertEquals(2, result.total());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsListCategories_thenShouldPropagateIt() {
+        // Arrange
+        final var expectedErrorMessage = "Gateway Error";
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        Mockito.when(gateway.findAll(query)).thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+
+        // Act
+        final var exception = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(ListCategoriesCommand.with(query)).block()
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
+    }
+}
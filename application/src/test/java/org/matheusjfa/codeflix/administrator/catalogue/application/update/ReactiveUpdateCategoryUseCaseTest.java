@@ -0,0 +1,122 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.update;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.DefaultReactiveUpdateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveUpdateCategoryUseCaseTest {
+
+    /**
+     * Test Scenarios
+     * 1) Update a category when passing valid params
+     * 2) Return a notification without calling the gateway when passing invalid params
+     * 3) Return a notification when the category was changed by someone else
+     * 4) Signal a DomainException when the category doesn't exist
+     * 5) Return a notification when the gateway signals an error
+     */
+
+    @InjectMocks
+    private DefaultReactiveUpdateCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_thenShouldReturnCategoryId() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var command = UpdateCategoryCommand.with(id, "Movies", "Movies Category", true);
+
+        Mockito.when(gateway.patch(Mockito.any())).thenReturn(Mono.just(CategoryPatchResult.UPDATED));
+
+        // Act
+        final var output = useCase.execute(command).block().get();
+
+        // Assert
+        Assertions.assertEquals(id.getValue(), output.id());
+        Mockito.verify(gateway, Mockito.times(1)).patch(Mockito.argThat(patch ->
+                id.equals(patch.id()) && "Movies".equals(patch.name()) && patch.isActive()
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsUpdateCategory_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "'name' should not be null";
+        final var command = UpdateCategoryCommand.with(CategoryID.generate(), null, "Movies Category", true);
+
+        // Act
+        final var notification = useCase.execute(command).block().getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.never()).patch(Mockito.any());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_thenShouldReturnAConflict() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var expectedErrorMessage = "Category with ID %s was changed by someone else, expected version 3"
+                .formatted(id.getValue());
+
+        final var command = UpdateCategoryCommand.with(id, "Movies", "Movies Category", true, 3L);
+
+        Mockito.when(gateway.patch(Mockito.any())).thenReturn(Mono.just(CategoryPatchResult.CONFLICT));
+
+        // Act
+        final var notification = useCase.execute(command).block().getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsUpdateCategory_thenShouldSignalDomainException() {
+        // Arrange
+        final var id = CategoryID.generate();
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(id.getValue());
+        final var command = UpdateCategoryCommand.with(id, "Movies", "Movies Category", true);
+
+        Mockito.when(gateway.patch(Mockito.any())).thenReturn(Mono.just(CategoryPatchResult.NOT_FOUND));
+
+        // Act
+        final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command).block());
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsUpdateCategory_thenShouldReturnANotification() {
+        // Arrange
+        final var expectedErrorMessage = "Gateway Error";
+        final var command = UpdateCategoryCommand.with(CategoryID.generate(), "Movies", "Movies Category", true);
+
+        Mockito.when(gateway.patch(Mockito.any())).thenReturn(Mono.error(new IllegalStateException(expectedErrorMessage)));
+
+        // Act
+        final var notification = useCase.execute(command).block().getLeft();
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+}
@@ -8,6 +8,7 @@ import org.matheusjfa.codeflix.administrator.catalogue.application.category.upda
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryCommand;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -15,9 +16,6 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
-import java.util.Optional;
-
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateCategoryUseCaseTest {
@@ -29,6 +27,9 @@ public class UpdateCategoryUseCaseTest {
      * 3) Update an inactive category when passing valid params
      * 4) Repository throws an exception when trying to update a category
      * 5) Throws an exception when trying to update a not found category
+     * 6) Return the category ID when nothing changed
+     * 7) Return an error when the category was changed by someone else
+     * 8) Return the version the category is at after a versioned update
      * */
 
     @InjectMocks
@@ -55,26 +56,24 @@ public class UpdateCategoryUseCaseTest {
         // Act
         final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(repository.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
-        Mockito.when(repository.update(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(repository.patch(Mockito.any())).thenReturn(CategoryPatchResult.UPDATED);
 
         final var output = useCase.execute(command).get();
 
         // Assert
         Assertions.assertNotNull(output);
-        Assertions.assertNotNull(output.id());
-
-        Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        Mockito.verify(repository, Mockito.times(1)).update(Mockito.argThat(
-                updatedCategory ->
-                        Objects.equals(expectedName, updatedCategory.getName())
-                                && Objects.equals(expectedDescription, updatedCategory.getDescription())
-                                && Objects.equals(expectedIsActive, updatedCategory.isActive())
-                                && Objects.equals(expectedId, updatedCategory.getId())
-                                && Objects.equals(category.getCreatedAt(), updatedCategory.getCreatedAt())
-                                && category.getUpdatedAt().isBefore(updatedCategory.getUpdatedAt())
-                                && Objects.isNull(updatedCategory.getDeletedAt())
+        Assertions.assertEquals(expectedId, output.id());
+        Assertions.assertNull(output.version());
+
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(repository, Mockito.never()).update(Mockito.any());
+
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.argThat(
+                patch ->
+                        Objects.equals(expectedName, patch.name())
+                                && Objects.equals(expectedDescription, patch.description())
+                                && Objects.equals(expectedIsActive, patch.isActive())
+                                && Objects.equals(expectedId, patch.id())
         ));
     }
 
@@ -93,16 +92,12 @@ public class UpdateCategoryUseCaseTest {
         // Act
         final var command = UpdateCategoryCommand.with(invalidID, expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(repository.findById(Mockito.eq(invalidID)))
-                .thenReturn(Optional.of(category.clone()));
-
         final var notification = useCase.execute(command).getLeft();
         // Assert
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedMessageError, notification.getErrors().get(0).message());
 
-        Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(invalidID));
-        Mockito.verify(repository, Mockito.times(0)).update(Mockito.any());
+        Mockito.verify(repository, Mockito.times(0)).patch(Mockito.any());
     }
 
     @Test
@@ -118,26 +113,20 @@ public class UpdateCategoryUseCaseTest {
         // Act
         final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(repository.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
-        Mockito.when(repository.update(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(repository.patch(Mockito.any())).thenReturn(CategoryPatchResult.UPDATED);
 
         final var output = useCase.execute(command).get();
 
         // Assert
         Assertions.assertNotNull(output);
-        Assertions.assertNotNull(output.id());
-
-        Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        Mockito.verify(repository, Mockito.times(1)).update(Mockito.argThat(
-                updatedCategory ->
-                        Objects.equals(expectedName, updatedCategory.getName())
-                                && Objects.equals(expectedDescription, updatedCategory.getDescription())
-                                && Objects.equals(expectedIsActive, updatedCategory.isActive())
-                                && Objects.equals(expectedId, updatedCategory.getId())
-                                && Objects.equals(category.getCreatedAt(), updatedCategory.getCreatedAt())
-                                && category.getUpdatedAt().isBefore(updatedCategory.getUpdatedAt())
-                                && Objects.isNull(updatedCategory.getDeletedAt())
+        Assertions.assertEquals(expectedId, output.id());
+
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.argThat(
+                patch ->
+                        Objects.equals(expectedName, patch.name())
+                                && Objects.equals(expectedDescription, patch.description())
+                                && Objects.equals(expectedIsActive, patch.isActive())
+                                && Objects.equals(expectedId, patch.id())
         ));
     }
 
@@ -156,8 +145,7 @@ public class UpdateCategoryUseCaseTest {
         // Act
         final var command = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(repository.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
-        Mockito.when(repository.update(Mockito.any())).thenThrow(new RuntimeException(expectedMessageError));
+        Mockito.when(repository.patch(Mockito.any())).thenThrow(new RuntimeException(expectedMessageError));
 
         final var notification = useCase.execute(command).getLeft();
 
@@ -165,8 +153,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedMessageError, notification.getErrors().get(0).message());
 
-        Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(expectedId));
-        Mockito.verify(repository, Mockito.times(1)).update(Mockito.any());
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.any());
     }
 
     @Test
@@ -184,8 +171,8 @@ public class UpdateCategoryUseCaseTest {
         // Act
         final var command = UpdateCategoryCommand.with(invalidID, expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(repository.findById(Mockito.any()))
-                .thenReturn(Optional.empty());
+        Mockito.when(repository.patch(Mockito.any()))
+                .thenReturn(CategoryPatchResult.NOT_FOUND);
 
         final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command).getLeft());
 
@@ -193,7 +180,74 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertEquals(expectedErrorCount, exception.getErrors().size());
         Assertions.assertEquals(expectedMessageError, exception.getErrors().get(0).message());
 
-        Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(invalidID));
-        Mockito.verify(repository, Mockito.times(0)).update(Mockito.any());
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.argThat(patch -> invalidID.equals(patch.id())));
+    }
+
+    @Test
+    public void givenAnUnchangedCommand_whenCallsUpdateCategory_thenShouldReturnCategoryID() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        final var expectedId = category.getId();
+
+        final var command = UpdateCategoryCommand.with(expectedId, category.getName(), category.getDescription(), true);
+
+        Mockito.when(repository.patch(Mockito.any()))
+                .thenReturn(CategoryPatchResult.UNCHANGED);
+
+        // Act
+        final var output = useCase.execute(command).get();
+
+        // Assert
+        Assertions.assertEquals(expectedId, output.id());
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.any());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_thenShouldReturnAConflictError() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        final var expectedId = category.getId();
+        final var staleVersion = 3L;
+
+        final var expectedMessageError = "Category with ID %s was changed by someone else, expected version %d"
+                .formatted(expectedId.getValue(), staleVersion);
+        final var expectedErrorCount = 1;
+
+        final var command = UpdateCategoryCommand.with(expectedId, "Movies", "Movies Description", true, staleVersion);
+
+        Mockito.when(repository.patch(Mockito.any()))
+                .thenReturn(CategoryPatchResult.CONFLICT);
+
+        // Act
+        final var notification = Assertions.assertDoesNotThrow(() -> useCase.execute(command).getLeft());
+
+        // Assert
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedMessageError, notification.getErrors().get(0).message());
+
+        Mockito.verify(repository, Mockito.times(1)).patch(Mockito.argThat(
+                patch -> Objects.equals(staleVersion, patch.expectedVersion()) && expectedId.equals(patch.id())
+        ));
+    }
+
+    @Test
+    public void givenAVersionedCommand_whenCallsUpdateCategory_thenShouldReturnTheNewVersion() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        final var expectedId = category.getId();
+        final var currentVersion = 3L;
+        final var expectedVersion = 4L;
+
+        final var command = UpdateCategoryCommand.with(expectedId, "Movies", "Movies Description", true, currentVersion);
+
+        Mockito.when(repository.patch(Mockito.any()))
+                .thenReturn(CategoryPatchResult.UPDATED);
+
+        // Act
+        final var output = useCase.execute(command).get();
+
+        // Assert
+        Assertions.assertEquals(expectedId, output.id());
+        Assertions.assertEquals(expectedVersion, output.version());
     }
-}
\ No newline at end of file
+}
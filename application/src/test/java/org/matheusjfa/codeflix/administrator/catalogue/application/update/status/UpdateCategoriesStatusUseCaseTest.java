@@ -0,0 +1,108 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.update.status;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status.DefaultUpdateCategoriesStatusUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status.UpdateCategoriesStatusCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateCategoriesStatusUseCaseTest {
+    /**
+     * Test Scenarios
+     * 1) Deactivate categories by ids and return the affected count
+     * 2) Activate categories matching terms and return the affected count
+     * 3) Return an error when neither ids nor terms are informed
+     * 4) Return an error when the gateway throws an exception
+     * */
+
+    @InjectMocks
+    private DefaultUpdateCategoriesStatusUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(gateway);
+    }
+
+    @Test
+    public void givenIds_whenCallsUpdateStatus_thenShouldReturnAffectedCount() {
+        // Arrange
+        final var expectedIds = List.of(CategoryID.generate(), CategoryID.generate());
+        final var expectedAffected = 2L;
+
+        Mockito.when(gateway.updateStatusByIds(expectedIds, false))
+                .thenReturn(expectedAffected);
+
+        // Act
+        final var output = useCase.execute(UpdateCategoriesStatusCommand.withIds(expectedIds, false)).get();
+
+        // Assert
+        Assertions.assertEquals(expectedAffected, output.affected());
+
+        Mockito.verify(gateway, Mockito.times(1)).updateStatusByIds(expectedIds, false);
+        Mockito.verify(gateway, Mockito.never()).updateStatusByTerms(Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(gateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenTerms_whenCallsUpdateStatus_thenShouldReturnAffectedCount() {
+        // Arrange
+        final var expectedTerms = "Movies";
+        final var expectedAffected = 42L;
+
+        Mockito.when(gateway.updateStatusByTerms(expectedTerms, true))
+                .thenReturn(expectedAffected);
+
+        // Act
+        final var output = useCase.execute(UpdateCategoriesStatusCommand.withTerms(expectedTerms, true)).get();
+
+        // Assert
+        Assertions.assertEquals(expectedAffected, output.affected());
+
+        Mockito.verify(gateway, Mockito.never()).updateStatusByIds(Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void givenNoFilter_whenCallsUpdateStatus_thenShouldReturnAnError() {
+        // Arrange
+        final var expectedErrorMessage = "'ids' or 'terms' should be informed";
+
+        // Act
+        final var notification = useCase.execute(UpdateCategoriesStatusCommand.withTerms("  ", true)).getLeft();
+
+        // Assert
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+
+        Mockito.verifyNoInteractions(gateway);
+    }
+
+    @Test
+    public void givenIds_whenGatewayThrowsException_thenShouldReturnAnError() {
+        // Arrange
+        final var expectedIds = List.of(CategoryID.generate());
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.when(gateway.updateStatusByIds(expectedIds, true))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // Act
+        final var notification = useCase.execute(UpdateCategoriesStatusCommand.withIds(expectedIds, true)).getLeft();
+
+        // Assert
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+}
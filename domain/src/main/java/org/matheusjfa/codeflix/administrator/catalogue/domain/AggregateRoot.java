@@ -1,14 +1,35 @@
 package org.matheusjfa.codeflix.administrator.catalogue.domain;
 
+import org.matheusjfa.codeflix.administrator.catalogue.domain.events.DomainEvent;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.ValidationHandler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+    private List<DomainEvent> domainEvents = new ArrayList<>();
+
     protected AggregateRoot(final ID id) {
         super(id);
     }
 
     public abstract void validate(ValidationHandler handler);
-}
 
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
 
+    public void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
 
+    protected void registerEvent(final DomainEvent event) {
+        this.domainEvents.add(event);
+    }
+
+    // Object.clone copies the reference, so every copy has to take its own list
+    protected void detachDomainEvents() {
+        this.domainEvents = new ArrayList<>(this.domainEvents);
+    }
+}
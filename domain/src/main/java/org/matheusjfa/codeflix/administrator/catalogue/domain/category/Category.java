@@ -13,6 +13,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID categoryID,
@@ -21,7 +22,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         super(categoryID);
         this.name = name;
@@ -30,6 +32,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
         this.createdAt = Objects.requireNonNull(createdAt, "'created at' must not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updated at' must not be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category create(
@@ -40,7 +43,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
         final var id = CategoryID.generate();
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, name, description, isActive, now, now, deletedAt);
+        final var category = new Category(id, name, description, isActive, now, now, deletedAt, 0L);
+        category.registerEvent(new CategoryCreated(id, now));
+        return category;
     }
 
     public static Category with(
@@ -51,6 +56,19 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt
+    ) {
+        return with(id, name, description, isActive, createdAt, updatedAt, deletedAt, 0L);
+    }
+
+    public static Category with(
+            final CategoryID id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 id,
@@ -59,7 +77,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
                 isActive,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -71,7 +90,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
@@ -92,6 +112,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
         this.name = name;
         this.description = description;
         this.updatedAt = Instant.now();
+        changed();
         return this;
     }
 
@@ -99,12 +120,21 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
         if(getDeletedAt() == null) this.deletedAt = Instant.now();
         this.active = false;
         this.updatedAt = Instant.now();
+        changed();
     }
 
     public void activate() {
         this.deletedAt = null;
         this.active = true;
         this.updatedAt = Instant.now();
+        changed();
+    }
+
+    // One pending CategoryUpdated is enough, consumers read the current state when they handle it
+    private void changed() {
+        if (getDomainEvents().stream().noneMatch(CategoryUpdated.class::isInstance)) {
+            registerEvent(new CategoryUpdated(getId(), this.updatedAt));
+        }
     }
 
     public String getName() {
@@ -131,10 +161,16 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable  {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
-            return (Category) super.clone();
+            final var clone = (Category) super.clone();
+            clone.detachDomainEvents();
+            return clone;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
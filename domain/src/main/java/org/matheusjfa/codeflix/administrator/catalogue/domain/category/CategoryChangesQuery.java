@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+public record CategoryChangesQuery(
+        String watermark,
+        int limit
+) {
+}
@@ -0,0 +1,16 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryCreated(CategoryID id, Instant occurredOn) implements DomainEvent {
+    public static CategoryCreated of(final CategoryID id) {
+        return new CategoryCreated(id, Instant.now());
+    }
+
+    @Override
+    public String aggregateId() {
+        return this.id.getValue();
+    }
+}
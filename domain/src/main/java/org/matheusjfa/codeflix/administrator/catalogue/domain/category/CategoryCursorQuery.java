@@ -0,0 +1,23 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+
+public record CategoryCursorQuery(
+        int perPage,
+        String cursor,
+        String terms,
+        String sort,
+        String direction
+) {
+    public static final int MAX_PER_PAGE = 1_000;
+
+    // A page needs at least one row to carry the next cursor
+    public CategoryCursorQuery {
+        if (perPage < 1 || perPage > MAX_PER_PAGE) {
+            throw DomainException.with(new Error(
+                    "'perPage' must be between 1 and %d".formatted(MAX_PER_PAGE)
+            ));
+        }
+    }
+}
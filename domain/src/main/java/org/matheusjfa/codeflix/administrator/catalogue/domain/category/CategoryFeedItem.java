@@ -0,0 +1,18 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import java.time.Instant;
+
+// A removed category is reported as a tombstone: its id and when it was removed, without the category itself
+public record CategoryFeedItem(CategoryID id, Category category, Instant changedAt) {
+    public static CategoryFeedItem changed(final Category category) {
+        return new CategoryFeedItem(category.getId(), category, category.getUpdatedAt());
+    }
+
+    public static CategoryFeedItem removed(final CategoryID id, final Instant removedAt) {
+        return new CategoryFeedItem(id, null, removedAt);
+    }
+
+    public boolean isTombstone() {
+        return this.category == null;
+    }
+}
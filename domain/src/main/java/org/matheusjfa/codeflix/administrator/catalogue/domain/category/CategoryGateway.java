@@ -1,17 +1,38 @@
 package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
 
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     Optional<Category> findById(CategoryID id);
 
     Pagination<Category> findAll(CategorySearchQuery query);
 
+    CursorPagination<Category> findAllAfter(CategoryCursorQuery query);
+
+    ChangeFeed<CategoryFeedItem> findChangesSince(CategoryChangesQuery query);
+
+    // Hands every matching category to the consumer while the underlying cursor is open, ignoring the page
+    long streamAll(CategorySearchQuery query, Consumer<Category> consumer);
+
     Category update(Category category);
 
+    CategoryPatchResult patch(CategoryPatch patch);
+
+    long updateStatusByIds(List<CategoryID> ids, boolean isActive);
+
+    long updateStatusByTerms(String terms, boolean isActive);
+
     Category deleteById(CategoryID id);
+
+    boolean softDeleteById(CategoryID id);
 }
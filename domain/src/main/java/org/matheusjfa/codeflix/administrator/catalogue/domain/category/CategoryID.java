@@ -1,43 +1,94 @@
 package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
 
 import org.matheusjfa.codeflix.administrator.catalogue.domain.Identifier;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.utils.UUIDv7;
 
 import java.util.Objects;
 import java.util.UUID;
 
 public class CategoryID extends Identifier {
-    private final String value;
+    private static final int UUID_LENGTH = 36;
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean uuid;
+
+    // Canonical UUID ids only build their string form when it is first requested
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.uuid = true;
+    }
 
     private CategoryID(final String id) {
-        this.value = Objects.requireNonNull(id, "'id' must not be null");
+        this.mostSigBits = 0L;
+        this.leastSigBits = 0L;
+        this.uuid = false;
+        this.value = id;
     }
 
     public static CategoryID generate() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(UUIDv7.generate());
     }
 
     public static CategoryID from(final UUID uuid) {
-        return new CategoryID(uuid.toString().toLowerCase());
+        return new CategoryID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
     }
 
     public static CategoryID from(final String id) {
-        return new CategoryID(id);
+        Objects.requireNonNull(id, "'id' must not be null");
+
+        return isCanonicalUUID(id)
+                ? CategoryID.from(UUID.fromString(id))
+                : new CategoryID(id);
     }
 
     public String getValue() {
-        return value;
+        var current = this.value;
+
+        if (current == null) {
+            current = new UUID(this.mostSigBits, this.leastSigBits).toString();
+            this.value = current;
+        }
+
+        return current;
     }
 
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryID that = (CategoryID) o;
-        return Objects.equals(value, that.value);
+
+        if (this.uuid != that.uuid) return false;
+
+        return this.uuid
+                ? this.mostSigBits == that.mostSigBits && this.leastSigBits == that.leastSigBits
+                : Objects.equals(this.value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        return this.uuid
+                ? Long.hashCode(this.mostSigBits ^ this.leastSigBits)
+                : Objects.hashCode(this.value);
     }
-}
 
+    // Only lowercase canonical UUIDs are stored as bits, so getValue() always returns the exact original string
+    private static boolean isCanonicalUUID(final String id) {
+        if (id.length() != UUID_LENGTH) return false;
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = id.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') return false;
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
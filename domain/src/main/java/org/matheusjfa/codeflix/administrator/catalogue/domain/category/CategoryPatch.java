@@ -0,0 +1,43 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+
+// The editable attributes of a category, applied by the gateway without loading the aggregate first.
+// When expectedVersion is set the patch only applies if the stored row is still at that version
+public record CategoryPatch(CategoryID id, String name, String description, boolean isActive, Long expectedVersion) {
+    public static CategoryPatch with(
+            final CategoryID id,
+            final String name,
+            final String description,
+            final boolean isActive
+    ) {
+        return new CategoryPatch(id, name, description, isActive, null);
+    }
+
+    public static CategoryPatch with(
+            final CategoryID id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Long expectedVersion
+    ) {
+        return new CategoryPatch(id, name, description, isActive, expectedVersion);
+    }
+
+    public boolean isVersioned() {
+        return expectedVersion != null;
+    }
+
+    public void validate(final ValidationHandler handler) {
+        final var now = Instant.now();
+        final var deletedAt = isActive ? null : now;
+
+        Category.with(id, name, description, isActive, now, now, deletedAt).validate(handler);
+    }
+
+    public Category applyTo(final Category category) {
+        return category.update(name, description, isActive);
+    }
+}
@@ -0,0 +1,8 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+public enum CategoryPatchResult {
+    UPDATED,
+    UNCHANGED,
+    CONFLICT,
+    NOT_FOUND
+}
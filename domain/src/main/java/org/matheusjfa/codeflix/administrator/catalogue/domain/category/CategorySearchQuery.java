@@ -5,6 +5,20 @@ public record CategorySearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        boolean withTotal
 ) {
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, true);
+    }
+
+    public CategorySearchQuery withoutTotal() {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, false);
+    }
 }
@@ -0,0 +1,16 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryUpdated(CategoryID id, Instant occurredOn) implements DomainEvent {
+    public static CategoryUpdated of(final CategoryID id) {
+        return new CategoryUpdated(id, Instant.now());
+    }
+
+    @Override
+    public String aggregateId() {
+        return this.id.getValue();
+    }
+}
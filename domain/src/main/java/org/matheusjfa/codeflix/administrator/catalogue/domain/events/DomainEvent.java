@@ -0,0 +1,9 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.events;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+    String aggregateId();
+
+    Instant occurredOn();
+}
@@ -0,0 +1,19 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+// The watermark is always returned, even for an empty batch, so a consumer can store it and resume from there
+public record ChangeFeed<T>(
+        List<T> items,
+        String watermark,
+        boolean hasMore
+) {
+    public <R> ChangeFeed<R> map(final Function<T, R> mapper) {
+        final var itemList = this.items().stream()
+                .map(mapper)
+                .toList();
+
+        return new ChangeFeed<>(itemList, this.watermark(), this.hasMore());
+    }
+}
@@ -0,0 +1,22 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPagination<T>(
+        int perPage,
+        String nextCursor,
+        List<T> items
+) {
+    public boolean hasNext() {
+        return this.nextCursor() != null;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final var itemList = this.items().stream()
+                .map(mapper)
+                .toList();
+
+        return new CursorPagination<>(this.perPage(), this.nextCursor(), itemList);
+    }
+}
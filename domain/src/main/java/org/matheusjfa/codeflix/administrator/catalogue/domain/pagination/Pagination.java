@@ -7,14 +7,34 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        boolean hasNext
 ) {
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public static <T> Pagination<T> slice(
+            final int currentPage,
+            final int perPage,
+            final List<T> items,
+            final boolean hasNext
+    ) {
+        return new Pagination<>(currentPage, perPage, UNKNOWN_TOTAL, items, hasNext);
+    }
+
+    public boolean hasTotal() {
+        return this.total() != UNKNOWN_TOTAL;
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final var itemList = this.items().stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), itemList);
+        return new Pagination<>(this.currentPage(), this.perPage(), this.total(), itemList, this.hasNext());
 
     }
 }
@@ -0,0 +1,44 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Time ordered UUIDs (RFC 9562 version 7): 48 bits of unix milliseconds, a 12 bit counter in rand_a
+// and 62 random bits. State is kept per thread so generation never contends on a shared lock or SecureRandom.
+public final class UUIDv7 {
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final int COUNTER_MAX = 0xFFF;
+    private static final int COUNTER_SEED_BOUND = 0x800;
+
+    private UUIDv7() {
+    }
+
+    public static UUID generate() {
+        return STATE.get().next();
+    }
+
+    private static final class State {
+        private long lastMillis = -1;
+        private int counter;
+
+        private UUID next() {
+            final var random = ThreadLocalRandom.current();
+            final var now = System.currentTimeMillis();
+
+            if (now > this.lastMillis) {
+                this.lastMillis = now;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            } else if (++this.counter > COUNTER_MAX) {
+                // Counter exhausted or clock moved backwards: borrow the next millisecond to stay monotonic
+                this.lastMillis++;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+
+            final var mostSigBits = (this.lastMillis << 16) | 0x7000L | this.counter;
+            final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+            return new UUID(mostSigBits, leastSigBits);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+
+public class CategoryCursorQueryTest {
+    /**
+     * Test Scenarios
+     * 1) Should reject a perPage below one or above the maximum
+     * 2) Should accept a perPage from one up to the maximum
+     * */
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, CategoryCursorQuery.MAX_PER_PAGE + 1})
+    public void givenAnInvalidPerPage_whenCreateQuery_thenShouldThrowDomainException(final int perPage) {
+        // Arrange
+        final var expectedErrorMessage = "'perPage' must be between 1 and %d".formatted(CategoryCursorQuery.MAX_PER_PAGE);
+
+        // Act
+        final var exception = Assertions.assertThrows(
+                DomainException.class,
+                () -> new CategoryCursorQuery(perPage, null, "", "name", "asc")
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAValidPerPage_whenCreateQuery_thenShouldKeepIt() {
+        // Act
+        final var first = new CategoryCursorQuery(1, null, "", "name", "asc");
+        final var last = new CategoryCursorQuery(CategoryCursorQuery.MAX_PER_PAGE, null, "", "name", "asc");
+
+        // Assert
+        Assertions.assertEquals(1, first.perPage());
+        Assertions.assertEquals(CategoryCursorQuery.MAX_PER_PAGE, last.perPage());
+    }
+}
@@ -0,0 +1,71 @@
+package org.matheusjfa.codeflix.administrator.catalogue.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+    /**
+     * Test Scenarios
+     * 1) Should generate a time ordered version 7 identifier
+     * 2) Should generate increasing identifiers on the same thread
+     * 3) Should keep the same value when parsed from its string form
+     * 4) Should keep non UUID values as they were given
+     * */
+
+    @Test
+    public void givenNothing_whenGenerate_thenShouldReturnAVersion7UUID() {
+        // Act
+        final var id = CategoryID.generate();
+        final var uuid = UUID.fromString(id.getValue());
+
+        // Assert
+        Assertions.assertEquals(7, uuid.version());
+        Assertions.assertEquals(2, uuid.variant());
+        Assertions.assertEquals(id.getValue(), id.getValue().toLowerCase());
+    }
+
+    @Test
+    public void givenManyGeneratedIds_whenCompareThem_thenShouldBeStrictlyIncreasing() {
+        // Arrange
+        final var expectedCount = 100_000;
+        var previous = CategoryID.generate().getValue();
+
+        // Act & Assert
+        for (int i = 0; i < expectedCount; i++) {
+            final var current = CategoryID.generate().getValue();
+            Assertions.assertTrue(current.compareTo(previous) > 0, current + " should be after " + previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    public void givenAGeneratedId_whenParseItsValue_thenShouldBeEqual() {
+        // Arrange
+        final var expectedId = CategoryID.generate();
+
+        // Act
+        final var actualId = CategoryID.from(expectedId.getValue());
+
+        // Assert
+        Assertions.assertEquals(expectedId, actualId);
+        Assertions.assertEquals(expectedId.hashCode(), actualId.hashCode());
+        Assertions.assertEquals(expectedId.getValue(), actualId.getValue());
+        Assertions.assertEquals(expectedId, CategoryID.from(UUID.fromString(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenANonUUIDValue_whenCreateId_thenShouldKeepTheValue() {
+        // Arrange
+        final var expectedValue = "Invalid_id";
+
+        // Act
+        final var actualId = CategoryID.from(expectedValue);
+
+        // Assert
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedValue), actualId);
+        Assertions.assertNotEquals(CategoryID.generate(), actualId);
+    }
+}
@@ -20,6 +20,9 @@ public class CategoryTest {
      * 10) Should update a category
      * 11) Should update a category with inactive status
      * 12) Should update a valid category to invalid without throwing an exception
+     * 13) Should record a created event when creating a category
+     * 14) Should record a single updated event per pending batch of changes
+     * 15) Should keep the events of a clone apart from the original
      * */
 
     @Test
@@ -294,6 +297,48 @@ public class CategoryTest {
         Assertions.assertTrue(updatedAt.isBefore(updatedCategory.getUpdatedAt()));
     }
 
+    @Test
+    public void givenAValidCategory_whenCreateCategory_thenShouldRecordACreatedEvent() {
+        // Act
+        final var category = Category.create("Category", "Category Description", true);
+
+        // Assert
+        Assertions.assertEquals(1, category.getDomainEvents().size());
+
+        final var event = Assertions.assertInstanceOf(CategoryCreated.class, category.getDomainEvents().get(0));
+        Assertions.assertEquals(category.getId().getValue(), event.aggregateId());
+        Assertions.assertEquals(category.getCreatedAt(), event.occurredOn());
+    }
+
+    @Test
+    public void givenAValidCategory_whenUpdateCategoryTwice_thenShouldRecordASingleUpdatedEvent() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        category.clearDomainEvents();
+
+        // Act
+        category.update("Movies", "Movies Description", false);
+        category.activate();
+
+        // Assert
+        Assertions.assertEquals(1, category.getDomainEvents().size());
+        Assertions.assertInstanceOf(CategoryUpdated.class, category.getDomainEvents().get(0));
+    }
+
+    @Test
+    public void givenAClonedCategory_whenClearEvents_thenShouldKeepTheOriginalEvents() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+
+        // Act
+        final var clone = category.clone();
+        clone.clearDomainEvents();
+
+        // Assert
+        Assertions.assertTrue(clone.getDomainEvents().isEmpty());
+        Assertions.assertEquals(1, category.getDomainEvents().size());
+    }
+
     private void sleep(final long milliSeconds) {
         try {
             Thread.sleep(milliSeconds);
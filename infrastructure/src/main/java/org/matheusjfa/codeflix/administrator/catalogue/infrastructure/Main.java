@@ -3,9 +3,12 @@ package org.matheusjfa.codeflix.administrator.catalogue.infrastructure;
 import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.WebserverConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.core.env.AbstractEnvironment;
 
-@SpringBootApplication
+// The reactive category gateway brings its own connection pool, see ReactiveCategoryConfiguration
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class Main {
     public static void main(String[] args) {
         System.setProperty(AbstractEnvironment.ACTIVE_PROFILES_PROPERTY_NAME, "development");
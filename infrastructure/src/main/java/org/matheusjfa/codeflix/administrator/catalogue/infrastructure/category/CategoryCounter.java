@@ -0,0 +1,72 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+// Runs the COUNT of a list request on a connection of its own while the request reads its page with the one it holds.
+// A request never waits for that second connection: when none is free, or every counting thread is busy and the
+// queue is full, it counts after its page instead. The COUNT runs read-only, so with a replica it reads the same
+// copy as the page, and under a statement timeout, since cancelling the future does not stop it on the server.
+public class CategoryCounter {
+    private final CategoryRepository repository;
+    private final ExecutorService executor;
+    private final TransactionTemplate transactionTemplate;
+    private final BooleanSupplier connectionFree;
+    private final Duration timeout;
+
+    public CategoryCounter(
+            final CategoryRepository repository,
+            final ExecutorService executor,
+            final PlatformTransactionManager transactionManager,
+            final BooleanSupplier connectionFree,
+            final Duration timeout
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.executor = Objects.requireNonNull(executor);
+        this.connectionFree = Objects.requireNonNull(connectionFree);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Null when the caller has to count on its own thread
+    public Future<Long> trySubmit(final Specification<CategoryJPAEntity> where) {
+        if (!this.connectionFree.getAsBoolean()) return null;
+
+        try {
+            return this.executor.submit(() -> this.transactionTemplate.execute(
+                    status -> this.repository.countMatching(where, this.timeout)
+            ));
+        } catch (final RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    // The pool may have run dry between the check and the COUNT taking its connection. The counting thread then gives
+    // up after the pool's connection-timeout and the caller counts on the connection it already holds.
+    public long join(final Future<Long> count, final Specification<CategoryJPAEntity> where) {
+        try {
+            return count.get();
+        } catch (final InterruptedException e) {
+            count.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while counting categories", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CannotCreateTransactionException) return this.repository.countMatching(where);
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+public record CategoryCursor(String sort, String value, String id) {
+    private static final Set<String> SORTABLE_ATTRIBUTES = Set.of("name", "createdAt", "updatedAt");
+    private static final String SEPARATOR = ".";
+
+    public static CategoryCursor of(final String sort, final CategoryJPAEntity entity) {
+        final var value = switch (sort) {
+            case "name" -> entity.getName();
+            case "createdAt" -> entity.getCreatedAt().toString();
+            case "updatedAt" -> entity.getUpdatedAt().toString();
+            default -> throw unsortable(sort);
+        };
+
+        return new CategoryCursor(sort, value, entity.getId());
+    }
+
+    public static CategoryCursor of(final String sort, final Category category) {
+        final var value = switch (sort) {
+            case "name" -> category.getName();
+            case "createdAt" -> category.getCreatedAt().toString();
+            case "updatedAt" -> category.getUpdatedAt().toString();
+            default -> throw unsortable(sort);
+        };
+
+        return new CategoryCursor(sort, value, category.getId().getValue());
+    }
+
+    public static CategoryCursor decode(final String token) {
+        final var parts = token.split("\\" + SEPARATOR, -1);
+
+        if (parts.length != 3) throw invalid(token);
+
+        try {
+            return new CategoryCursor(decodePart(parts[0]), decodePart(parts[1]), decodePart(parts[2]));
+        } catch (final IllegalArgumentException e) {
+            throw invalid(token);
+        }
+    }
+
+    public static void ensureSortable(final String sort) {
+        if (!SORTABLE_ATTRIBUTES.contains(sort)) throw unsortable(sort);
+    }
+
+    public String encode() {
+        return encodePart(this.sort) + SEPARATOR + encodePart(this.value) + SEPARATOR + encodePart(this.id);
+    }
+
+    public Specification<CategoryJPAEntity> after(final boolean descending) {
+        try {
+            return switch (this.sort) {
+                case "name" -> SpecificationUtils.seek("name", this.value, "id", this.id, descending);
+                case "createdAt" -> SpecificationUtils.seek("createdAt", Instant.parse(this.value), "id", this.id, descending);
+                case "updatedAt" -> SpecificationUtils.seek("updatedAt", Instant.parse(this.value), "id", this.id, descending);
+                default -> throw unsortable(this.sort);
+            };
+        } catch (final DateTimeParseException e) {
+            throw invalid(encode());
+        }
+    }
+
+    // The value typed like its column, for queries that bind it by hand instead of through a Specification
+    public Object typedValue() {
+        try {
+            return switch (this.sort) {
+                case "name" -> this.value;
+                case "createdAt", "updatedAt" -> Instant.parse(this.value);
+                default -> throw unsortable(this.sort);
+            };
+        } catch (final DateTimeParseException e) {
+            throw invalid(encode());
+        }
+    }
+
+    private static String encodePart(final String part) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private static DomainException unsortable(final String sort) {
+        return DomainException.with(
+                new Error("Cursor pagination does not support sorting by '%s'".formatted(sort))
+        );
+    }
+
+    private static DomainException invalid(final String token) {
+        return DomainException.with(new Error("Cursor '%s' is invalid".formatted(token)));
+    }
+}
@@ -1,57 +1,170 @@
 package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
 
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryDeleted;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryUpdated;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeLog;
 import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
 import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox.Outbox;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
 import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
+    // How a page that needs its total gets it: a COUNT after the page, a COUNT on another connection at the same
+    // time, or COUNT(*) OVER() on every row of the page, which needs window functions (MySQL 8, H2)
+    public enum CountMode {
+        SEQUENTIAL,
+        PARALLEL,
+        WINDOW
+    }
+
+    // The ngram parser indexes tokens of this size, shorter terms cannot be matched by the FULLTEXT index
+    private static final int FULL_TEXT_MIN_TERM_LENGTH = 2;
+
+    // Keeps each IN list well below the statement size and the range of rows locked by a single UPDATE
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1_000;
+
+    // The order of the feed queries: updated_at, then the id compared the way MySQL compares BINARY(16)
+    private static final Comparator<FeedEntry> FEED_ORDER = Comparator
+            .comparing((FeedEntry entry) -> entry.position().updatedAt())
+            .thenComparing((left, right) -> Arrays.compareUnsigned(
+                    BinaryUUIDUtils.toBytes(left.position().id()),
+                    BinaryUUIDUtils.toBytes(right.position().id())
+            ));
+
     private final CategoryRepository repository;
+    private final CategoryChangeLog changeLog;
+    private final CategoryTombstones tombstones;
+    private final Outbox outbox;
+    private final long maxOffset;
+    private final boolean fullText;
+    private final boolean logChanges;
+    private final Duration feedLag;
+    private final CountMode countMode;
+    private final CategoryCounter counter;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final CategoryChangeLog changeLog,
+            final CategoryTombstones tombstones,
+            final Outbox outbox,
+            @Value("${catalogue.category.pagination.max-offset:10000}") final long maxOffset,
+            @Value("${catalogue.category.search.full-text:false}") final boolean fullText,
+            @Value("${catalogue.category.changes.enabled:false}") final boolean logChanges,
+            @Value("${catalogue.category.feed.lag:PT5S}") final Duration feedLag,
+            @Value("${catalogue.category.list.count-mode:sequential}") final CountMode countMode,
+            @Nullable final CategoryCounter counter
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.changeLog = Objects.requireNonNull(changeLog);
+        this.tombstones = Objects.requireNonNull(tombstones);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.maxOffset = maxOffset;
+        this.fullText = fullText;
+        this.logChanges = logChanges;
+        this.feedLag = Objects.requireNonNull(feedLag);
+        this.countMode = Objects.requireNonNull(countMode);
+        this.counter = countMode == CountMode.PARALLEL ? Objects.requireNonNull(counter) : null;
     }
 
     @Override
+    @Transactional
     public Category create(final Category category) {
-        return this.save(category);
+        final var created = this.save(CategoryJPAEntity.fromNew(category));
+        changed(List.of(created.getId()));
+        publishEvents(List.of(category));
+        return created;
     }
 
     @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        final var entities = categories.stream()
+                .map(CategoryJPAEntity::from)
+                .toList();
+
+        final var created = this.repository.persistAll(entities).stream()
+                .map(CategoryJPAEntity::toAggregate)
+                .toList();
+
+        changed(created.stream().map(Category::getId).toList());
+        publishEvents(categories);
+        return created;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(final CategoryID id) {
         return this.repository.findById(id.getValue())
                 .map(CategoryJPAEntity::toAggregate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(CategorySearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+        final var offset = offsetOf(query, this.maxOffset);
 
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(terms -> !terms.isEmpty())
-                .map(term -> SpecificationUtils
-                            .<CategoryJPAEntity>like("name", term)
-                            .or(SpecificationUtils.<CategoryJPAEntity>like("description", term)))
-                .orElse(null);
+        if (useFullText(this.fullText, query.terms())) return findAllByFullText(query);
 
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var specifications = Specification.where(search(query.terms()));
 
-        final var result = this.repository.findAll(Specification.where(specifications), page);
+        if (!query.withTotal()) {
+            // Fetching one extra row answers hasNext without the COUNT(*) over the same filter
+            final var rows = this.repository.findSlice(specifications, sort, offset, query.perPage() + 1);
+            final var hasNext = rows.size() > query.perPage();
+            final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+            return Pagination.slice(
+                    query.page(),
+                    query.perPage(),
+                    items.stream().map(CategoryJPAEntity::toAggregate).toList(),
+                    hasNext
+            );
+        }
+
+        if (this.countMode == CountMode.PARALLEL) return findAllCountingInParallel(specifications, sort, offset, query);
+        if (this.countMode == CountMode.WINDOW) return findAllCountingInWindow(query, offset);
+
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+
+        final var result = this.repository.findAll(specifications, page);
 
         return new Pagination<>(
                 result.getNumber(),
@@ -62,23 +175,365 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        CategoryCursor.ensureSortable(query.sort());
+
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var sort = Sort.by(direction, query.sort()).and(Sort.by(direction, "id"));
+
+        var specifications = Specification.where(search(query.terms()));
+
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            final var cursor = CategoryCursor.decode(query.cursor());
+
+            if (!cursor.sort().equals(query.sort())) {
+                throw DomainException.with(new Error(
+                        "Cursor was created sorting by '%s' and cannot be used to sort by '%s'"
+                                .formatted(cursor.sort(), query.sort())
+                ));
+            }
+
+            specifications = specifications.and(cursor.after(direction.isDescending()));
+        }
+
+        final var rows = this.repository.findSlice(specifications, sort, 0, query.perPage() + 1);
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+        final var nextCursor = hasNext
+                ? CategoryCursor.of(query.sort(), items.get(items.size() - 1)).encode()
+                : null;
+
+        return new CursorPagination<>(
+                query.perPage(),
+                nextCursor,
+                items.stream().map(CategoryJPAEntity::toAggregate).toList()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeed<CategoryFeedItem> findChangesSince(final CategoryChangesQuery query) {
+        final var watermark = CategoryWatermark.decode(query.watermark());
+
+        // updated_at is taken before commit, so a slower transaction can still land behind rows already handed
+        // out. Holding back the most recent rows for feedLag keeps the watermark from skipping over it.
+        final var after = BinaryUUIDUtils.toBytes(watermark.id());
+        final var until = Instant.now().minus(this.feedLag);
+        final var limit = query.limit() + 1;
+
+        final var rows = this.repository.findChangedSince(watermark.updatedAt(), after, until, PageRequest.of(0, limit))
+                .stream()
+                .map(entity -> new FeedEntry(CategoryWatermark.of(entity), toFeedItem(entity)));
+
+        // Hard deleted rows only survive as tombstones, merged in by the same (updated_at, id) order
+        final var deleted = this.tombstones.findSince(watermark.updatedAt(), after, until, limit)
+                .stream()
+                .map(tombstone -> new FeedEntry(
+                        tombstone,
+                        CategoryFeedItem.removed(CategoryID.from(tombstone.id()), tombstone.updatedAt())
+                ));
+
+        final var entries = Stream.concat(rows, deleted)
+                .sorted(FEED_ORDER)
+                .limit(limit)
+                .toList();
+
+        final var hasMore = entries.size() > query.limit();
+        final var items = hasMore ? entries.subList(0, query.limit()) : entries;
+
+        final var next = items.isEmpty() ? watermark : items.get(items.size() - 1).position();
+
+        return new ChangeFeed<>(
+                items.stream().map(FeedEntry::item).toList(),
+                next.encode(),
+                hasMore
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAll(final CategorySearchQuery query, final Consumer<Category> consumer) {
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort()).and(Sort.by("id"));
+
+        try (final var rows = this.repository.streamMatching(Specification.where(search(query.terms())), sort)) {
+            final var streamed = new AtomicLong();
+
+            rows.forEach(entity -> {
+                consumer.accept(entity.toAggregate());
+                streamed.incrementAndGet();
+            });
+
+            return streamed.get();
+        }
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category category) {
-        return this.save(category);
+        final var updated = this.save(CategoryJPAEntity.from(category));
+        changed(List.of(updated.getId()));
+        publishEvents(List.of(category));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public CategoryPatchResult patch(final CategoryPatch patch) {
+        final var id = patch.id().getValue();
+
+        final var affected = this.repository.patch(
+                id,
+                patch.expectedVersion(),
+                patch.name(),
+                patch.description(),
+                patch.isActive(),
+                Instant.now().truncatedTo(ChronoUnit.MICROS)
+        );
+
+        if (affected > 0) {
+            changed(List.of(patch.id()));
+            this.outbox.append(List.of(CategoryUpdated.of(patch.id())));
+            return CategoryPatchResult.UPDATED;
+        }
+
+        // No row changed: the id doesn't exist, someone else changed it first, the values were already there,
+        // or they only differ in case or accents, which the column collation treats as equal
+        final var current = this.repository.findById(id);
+
+        if (current.isEmpty()) return CategoryPatchResult.NOT_FOUND;
+
+        final var entity = current.get();
+
+        if (patch.isVersioned() && entity.getVersion() != patch.expectedVersion()) {
+            return CategoryPatchResult.CONFLICT;
+        }
+
+        if (Objects.equals(entity.getName(), patch.name())
+                && Objects.equals(entity.getDescription(), patch.description())
+                && entity.isActive() == patch.isActive()) {
+            return CategoryPatchResult.UNCHANGED;
+        }
+
+        this.save(CategoryJPAEntity.from(patch.applyTo(entity.toAggregate())));
+        changed(List.of(patch.id()));
+        this.outbox.append(List.of(CategoryUpdated.of(patch.id())));
+        return CategoryPatchResult.UPDATED;
+    }
+
+    @Override
+    @Transactional
+    public long updateStatusByIds(final List<CategoryID> ids, final boolean isActive) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var values = ids.stream().map(CategoryID::getValue).distinct().toList();
+        final var events = new ArrayList<CategoryUpdated>();
+
+        var affected = 0L;
+
+        for (int from = 0; from < values.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            final var chunk = values.subList(from, Math.min(values.size(), from + STATUS_UPDATE_CHUNK_SIZE));
+            final var where = SpecificationUtils.<CategoryJPAEntity>in("id", chunk);
+            final var chunkAffected = this.repository.updateStatus(where, isActive, now);
+
+            if (chunkAffected > 0 && this.outbox.isEnabled()) events.addAll(updatedEvents(where, now));
+            affected += chunkAffected;
+        }
+
+        if (affected > 0) changed(ids);
+        this.outbox.append(events);
+        return affected;
     }
 
     @Override
+    @Transactional
+    public long updateStatusByTerms(final String terms, final boolean isActive) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var where = search(terms);
+        final var affected = this.repository.updateStatus(where, isActive, now);
+
+        if (affected > 0 && this.logChanges) this.changeLog.appendGlobal();
+        if (affected > 0 && this.outbox.isEnabled()) this.outbox.append(updatedEvents(where, now));
+        return affected;
+    }
+
+    @Override
+    @Transactional
     public Category deleteById(final CategoryID id) {
         final var entity = findById(id)
                 .orElseThrow();
 
         this.repository.deleteById(id.getValue());
+        this.tombstones.append(id, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        changed(List.of(id));
+        this.outbox.append(List.of(CategoryDeleted.of(id)));
         return Category.with(entity);
     }
 
-    private Category save(final Category category) {
-        final var entity = CategoryJPAEntity.from(category);
+    @Override
+    @Transactional
+    public boolean softDeleteById(final CategoryID id) {
+        final var deleted = this.repository.softDelete(id.getValue(), Instant.now().truncatedTo(ChronoUnit.MICROS)) > 0;
+
+        if (deleted) {
+            changed(List.of(id));
+            this.outbox.append(List.of(CategoryDeleted.of(id)));
+        }
+        return deleted;
+    }
+
+    private record FeedEntry(CategoryWatermark position, CategoryFeedItem item) {
+    }
+
+    private static CategoryFeedItem toFeedItem(final CategoryJPAEntity entity) {
+        return entity.getRemovedAt() == null
+                ? CategoryFeedItem.changed(entity.toAggregate())
+                : CategoryFeedItem.removed(CategoryID.from(entity.getId()), entity.getUpdatedAt());
+    }
+
+    // Written in the caller's transaction, so other nodes never evict for a write that was rolled back
+    private void changed(final Collection<CategoryID> ids) {
+        if (this.logChanges) this.changeLog.append(ids);
+    }
+
+    // The events are stored in the write transaction and taken off the aggregates so they are not stored twice
+    private void publishEvents(final List<Category> categories) {
+        this.outbox.append(categories.stream().flatMap(category -> category.getDomainEvents().stream()).toList());
+        categories.forEach(Category::clearDomainEvents);
+    }
+
+    // Every row touched by a bulk status UPDATE is stamped with the same updated_at, which finds them again
+    private List<CategoryUpdated> updatedEvents(final Specification<CategoryJPAEntity> where, final Instant now) {
+        final Specification<CategoryJPAEntity> touched = (root, query, builder) ->
+                builder.equal(root.get("updatedAt"), now);
+
+        return this.repository.findIds(Specification.where(where).and(touched)).stream()
+                .map(id -> CategoryUpdated.of(CategoryID.from(id)))
+                .toList();
+    }
+
+    private Category save(final CategoryJPAEntity entity) {
         return this.repository
                 .save(entity)
                 .toAggregate();
     }
+
+    public static long offsetOf(final CategorySearchQuery query, final long maxOffset) {
+        final var offset = (long) query.page() * query.perPage();
+
+        if (offset > maxOffset) {
+            throw DomainException.with(new Error(
+                    "Page %d is beyond the maximum offset of %d, use cursor pagination instead"
+                            .formatted(query.page(), maxOffset)
+            ));
+        }
+
+        return offset;
+    }
+
+    static boolean useFullText(final boolean fullText, final String terms) {
+        return fullText
+                && terms != null
+                && terms.trim().length() >= FULL_TEXT_MIN_TERM_LENGTH;
+    }
+
+    // Quoted as a phrase so ngram matching keeps the substring semantics of the LIKE search
+    static String fullTextPhrase(final String terms) {
+        return "\"" + terms.trim().replace("\"", "") + "\"";
+    }
+
+    // The COUNT runs on another connection while this thread reads the page, so the call takes the slower of the two
+    // instead of their sum. A failure on either side fails the call, and a COUNT that failed the page or is not
+    // needed any more is cancelled.
+    private Pagination<Category> findAllCountingInParallel(
+            final Specification<CategoryJPAEntity> specifications,
+            final Sort sort,
+            final long offset,
+            final CategorySearchQuery query
+    ) {
+        final var count = this.counter.trySubmit(specifications);
+        final List<CategoryJPAEntity> rows;
+
+        try {
+            rows = this.repository.findSlice(specifications, sort, offset, query.perPage());
+        } catch (final RuntimeException e) {
+            if (count != null) count.cancel(true);
+            throw e;
+        }
+
+        final long total;
+
+        // A partial page already tells the total, same as the Page returned by the repository
+        if (!rows.isEmpty() && rows.size() < query.perPage()) {
+            if (count != null) count.cancel(true);
+            total = offset + rows.size();
+        } else {
+            total = count == null
+                    ? this.repository.countMatching(specifications)
+                    : this.counter.join(count, specifications);
+        }
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                rows.stream().map(CategoryJPAEntity::toAggregate).toList()
+        );
+    }
+
+    private Pagination<Category> findAllCountingInWindow(final CategorySearchQuery query, final long offset) {
+        final var result = this.repository.findPageCountingAll(
+                query.terms(),
+                JdbcCategoryGateway.sortColumn(query.sort()),
+                Sort.Direction.fromString(query.direction()),
+                offset,
+                query.perPage()
+        );
+
+        // Past the last row there is no row left to carry the total
+        final var total = result.rows().isEmpty()
+                ? this.repository.countMatching(search(query.terms()))
+                : result.total();
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                result.rows().stream().map(CategoryJPAEntity::toAggregate).toList()
+        );
+    }
+
+    private Pagination<Category> findAllByFullText(final CategorySearchQuery query) {
+        final var phrase = fullTextPhrase(query.terms());
+        final var page = PageRequest.of(query.page(), query.perPage());
+
+        if (!query.withTotal()) {
+            final var result = this.repository.searchFullTextSlice(phrase, page);
+
+            return Pagination.slice(
+                    result.getNumber(),
+                    result.getSize(),
+                    result.map(CategoryJPAEntity::toAggregate).toList(),
+                    result.hasNext()
+            );
+        }
+
+        final var result = this.repository.searchFullText(phrase, page);
+
+        return new Pagination<>(
+                result.getNumber(),
+                result.getSize(),
+                result.getTotalElements(),
+                result.map(CategoryJPAEntity::toAggregate).toList()
+        );
+    }
+
+    static Specification<CategoryJPAEntity> search(final String terms) {
+        return Optional.ofNullable(terms)
+                .filter(term -> !term.isEmpty())
+                .map(term -> SpecificationUtils
+                            .<CategoryJPAEntity>like("name", term)
+                            .or(SpecificationUtils.<CategoryJPAEntity>like("description", term)))
+                .orElse(null);
+    }
 }
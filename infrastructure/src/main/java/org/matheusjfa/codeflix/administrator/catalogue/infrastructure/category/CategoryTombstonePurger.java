@@ -0,0 +1,44 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+// Keeps category_tombstones bounded. The retention has to outlast the slowest feed consumer: one whose watermark is
+// older than it may have missed hard deletes and must start over from the initial watermark
+@Component
+@ConditionalOnProperty(name = "catalogue.category.tombstones.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryTombstonePurger {
+    private final CategoryTombstones tombstones;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public CategoryTombstonePurger(
+            final CategoryTombstones tombstones,
+            @Value("${catalogue.category.tombstones.retention:P7D}") final Duration retention,
+            @Value("${catalogue.category.tombstones.chunk-size:1000}") final int chunkSize
+    ) {
+        this.tombstones = Objects.requireNonNull(tombstones);
+        this.retention = Objects.requireNonNull(retention);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogue.category.tombstones.interval:PT1H}",
+            fixedDelayString = "${catalogue.category.tombstones.interval:PT1H}"
+    )
+    public void purge() {
+        purge(Instant.now().minus(this.retention));
+    }
+
+    public long purge(final Instant deletedBefore) {
+        // Readers never look tombstones up by id, so reads don't have to follow this write to the primary
+        return ReadWriteRoutingDataSource.untracked(() -> this.tombstones.purgeBefore(deletedBefore, this.chunkSize));
+    }
+}
@@ -0,0 +1,84 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// A hard delete leaves no row behind for the change feed, so it is recorded here in the same transaction. Written
+// whether or not category_changes is, since feed consumers rely on it. Rows older than the retention are purged by
+// CategoryTombstonePurger, so a consumer whose watermark falls behind it must resync from the initial watermark.
+@Component
+public class CategoryTombstones {
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryTombstones(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public void append(final CategoryID id, final Instant deletedAt) {
+        this.jdbcTemplate.update(
+                "INSERT INTO category_tombstones (id, deleted_at) VALUES (?, ?)",
+                BinaryUUIDUtils.toBytes(id.getValue()),
+                Timestamp.from(deletedAt)
+        );
+    }
+
+    // Same seek as CategoryRepository.findChangedSince, on idx_category_tombstones_deleted_at_id
+    public List<CategoryWatermark> findSince(
+            final Instant deletedAt,
+            final byte[] id,
+            final Instant until,
+            final int limit
+    ) {
+        return this.jdbcTemplate.query(
+                """
+                        SELECT id, deleted_at FROM category_tombstones
+                        WHERE deleted_at >= ? AND (deleted_at > ? OR id > ?)
+                          AND deleted_at < ?
+                        ORDER BY deleted_at, id
+                        LIMIT ?""",
+                (rs, rowNum) -> new CategoryWatermark(
+                        rs.getTimestamp("deleted_at").toInstant(),
+                        BinaryUUIDUtils.fromBytes(rs.getBytes("id"))
+                ),
+                Timestamp.from(deletedAt),
+                Timestamp.from(deletedAt),
+                id,
+                Timestamp.from(until),
+                limit
+        );
+    }
+
+    // Purged rows are gone, so every chunk seeks from the head of idx_category_tombstones_deleted_at_id again and
+    // each DELETE only holds the locks of one chunk
+    public long purgeBefore(final Instant deletedBefore, final int chunkSize) {
+        final var cutoff = Timestamp.from(deletedBefore);
+
+        var purged = 0L;
+
+        while (true) {
+            final var ids = this.jdbcTemplate.query(
+                    "SELECT id FROM category_tombstones WHERE deleted_at < ? ORDER BY deleted_at, id LIMIT ?",
+                    (rs, rowNum) -> rs.getBytes("id"),
+                    cutoff,
+                    chunkSize
+            );
+            if (ids.isEmpty()) return purged;
+
+            final var placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            purged += this.jdbcTemplate.update(
+                    "DELETE FROM category_tombstones WHERE id IN (" + placeholders + ")",
+                    ids.toArray()
+            );
+
+            if (ids.size() < chunkSize) return purged;
+        }
+    }
+}
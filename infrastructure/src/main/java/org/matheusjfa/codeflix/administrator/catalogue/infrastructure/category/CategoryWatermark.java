@@ -0,0 +1,55 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Position in the change feed: the (updated_at, id) of the last row a consumer has seen
+public record CategoryWatermark(Instant updatedAt, String id) {
+    private static final String SEPARATOR = ".";
+
+    public static CategoryWatermark initial() {
+        return new CategoryWatermark(Instant.EPOCH, "");
+    }
+
+    public static CategoryWatermark of(final CategoryJPAEntity entity) {
+        return new CategoryWatermark(entity.getUpdatedAt(), entity.getId());
+    }
+
+    public static CategoryWatermark decode(final String token) {
+        if (token == null || token.isBlank()) return initial();
+
+        final var parts = token.split("\\" + SEPARATOR, -1);
+
+        if (parts.length != 2) throw invalid(token);
+
+        try {
+            return new CategoryWatermark(Instant.parse(decodePart(parts[0])), decodePart(parts[1]));
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw invalid(token);
+        }
+    }
+
+    public String encode() {
+        return encodePart(this.updatedAt.toString()) + SEPARATOR + encodePart(this.id);
+    }
+
+    private static String encodePart(final String part) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private static DomainException invalid(final String token) {
+        return DomainException.with(new Error("Watermark '%s' is invalid".formatted(token)));
+    }
+}
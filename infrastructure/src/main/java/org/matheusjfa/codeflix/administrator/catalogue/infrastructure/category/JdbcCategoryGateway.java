@@ -0,0 +1,324 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Serves the reads with hand-written SQL mapped straight into Category, with no session, snapshot or flush in the
+// way. Writes, and the change feed that has to agree with them, stay on CategoryMySQLGateway.
+// Every statement is built from a fixed set of fragments, so the driver's prepared statement cache can reuse them.
+@Service
+@Primary
+@ConditionalOnProperty(name = "catalogue.category.jdbc.enabled", havingValue = "true")
+public class JdbcCategoryGateway implements CategoryGateway {
+    private static final String SELECT = """
+            SELECT id, name, description, is_active, created_at, updated_at, deleted_at, version
+            FROM category
+            WHERE removed_at IS NULL""";
+
+    private static final String COUNT = "SELECT COUNT(*) FROM category WHERE removed_at IS NULL";
+
+    private static final String SEARCH = " AND (UPPER(name) LIKE ? OR UPPER(description) LIKE ?)";
+
+    private static final String FULL_TEXT_MATCH = "MATCH(name, description) AGAINST (? IN BOOLEAN MODE)";
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "isActive", "is_active",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "deletedAt", "deleted_at"
+    );
+
+    // Columns are read by position, which skips the name lookup the driver does for every getXxx(String)
+    private static final RowMapper<Category> CATEGORY_MAPPER = (rs, rowNum) -> Category.with(
+            CategoryID.from(BinaryUUIDUtils.fromBytes(rs.getBytes(1))),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBoolean(4),
+            toInstant(rs.getTimestamp(5)),
+            toInstant(rs.getTimestamp(6)),
+            toInstant(rs.getTimestamp(7)),
+            rs.getLong(8)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingTemplate;
+    private final CategoryMySQLGateway writes;
+    private final long maxOffset;
+    private final boolean fullText;
+
+    public JdbcCategoryGateway(
+            final JdbcTemplate jdbcTemplate,
+            final CategoryMySQLGateway writes,
+            @Value("${catalogue.category.pagination.max-offset:10000}") final long maxOffset,
+            @Value("${catalogue.category.search.full-text:false}") final boolean fullText,
+            @Value("${catalogue.persistence.batch-size:500}") final int fetchSize
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.writes = Objects.requireNonNull(writes);
+        this.maxOffset = maxOffset;
+        this.fullText = fullText;
+
+        // Pages are read in one round trip, only full scans go through a cursor that fetches fetchSize rows at a time
+        this.streamingTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.writes.create(category);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.writes.createAll(categories);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Category> findById(final CategoryID id) {
+        return this.jdbcTemplate.query(
+                SELECT + " AND id = ?",
+                CATEGORY_MAPPER,
+                (Object) BinaryUUIDUtils.toBytes(id.getValue())
+        ).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var offset = CategoryMySQLGateway.offsetOf(query, this.maxOffset);
+
+        if (CategoryMySQLGateway.useFullText(this.fullText, query.terms())) return findAllByFullText(query, offset);
+
+        final var where = new StringBuilder();
+        final var arguments = new ArrayList<Object>();
+        search(query.terms(), where, arguments);
+
+        final var orderBy = orderBy(query.sort(), query.direction());
+
+        if (!query.withTotal()) {
+            final var rows = page(SELECT + where + orderBy, arguments, offset, query.perPage() + 1);
+            final var hasNext = rows.size() > query.perPage();
+
+            return Pagination.slice(
+                    query.page(),
+                    query.perPage(),
+                    hasNext ? rows.subList(0, query.perPage()) : rows,
+                    hasNext
+            );
+        }
+
+        final var rows = page(SELECT + where + orderBy, arguments, offset, query.perPage());
+
+        final var total = !rows.isEmpty() && rows.size() < query.perPage()
+                ? offset + rows.size()
+                : count(COUNT + where, arguments);
+
+        return new Pagination<>(query.page(), query.perPage(), total, rows);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        CategoryCursor.ensureSortable(query.sort());
+
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var column = SORTABLE_COLUMNS.get(query.sort());
+
+        final var where = new StringBuilder();
+        final var arguments = new ArrayList<Object>();
+        search(query.terms(), where, arguments);
+
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            final var cursor = CategoryCursor.decode(query.cursor());
+
+            if (!cursor.sort().equals(query.sort())) {
+                throw DomainException.with(new Error(
+                        "Cursor was created sorting by '%s' and cannot be used to sort by '%s'"
+                                .formatted(cursor.sort(), query.sort())
+                ));
+            }
+
+            // Same expansion as SpecificationUtils.seek, so the (column, id) indexes still serve it
+            final var operator = direction.isDescending() ? "<" : ">";
+            where.append(" AND (%1$s %2$s ? OR (%1$s = ? AND id %2$s ?))".formatted(column, operator));
+
+            final var value = bindable(cursor.typedValue());
+            arguments.add(value);
+            arguments.add(value);
+            arguments.add(BinaryUUIDUtils.toBytes(cursor.id()));
+        }
+
+        final var orderBy = " ORDER BY %1$s %2$s, id %2$s".formatted(column, direction.name());
+        final var rows = page(SELECT + where + orderBy, arguments, 0, query.perPage() + 1);
+
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+        final var nextCursor = hasNext
+                ? CategoryCursor.of(query.sort(), items.get(items.size() - 1)).encode()
+                : null;
+
+        return new CursorPagination<>(query.perPage(), nextCursor, items);
+    }
+
+    @Override
+    public ChangeFeed<CategoryFeedItem> findChangesSince(final CategoryChangesQuery query) {
+        return this.writes.findChangesSince(query);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAll(final CategorySearchQuery query, final Consumer<Category> consumer) {
+        final var where = new StringBuilder();
+        final var arguments = new ArrayList<Object>();
+        search(query.terms(), where, arguments);
+
+        final var direction = Sort.Direction.fromString(query.direction()).name();
+        final var sql = SELECT + where + " ORDER BY %s %s, id".formatted(sortColumn(query.sort()), direction);
+
+        final var streamed = new AtomicLong();
+
+        this.streamingTemplate.query(sql, rs -> {
+            consumer.accept(CATEGORY_MAPPER.mapRow(rs, Math.toIntExact(streamed.get())));
+            streamed.incrementAndGet();
+        }, arguments.toArray());
+
+        return streamed.get();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.writes.update(category);
+    }
+
+    @Override
+    public CategoryPatchResult patch(final CategoryPatch patch) {
+        return this.writes.patch(patch);
+    }
+
+    @Override
+    public long updateStatusByIds(final List<CategoryID> ids, final boolean isActive) {
+        return this.writes.updateStatusByIds(ids, isActive);
+    }
+
+    @Override
+    public long updateStatusByTerms(final String terms, final boolean isActive) {
+        return this.writes.updateStatusByTerms(terms, isActive);
+    }
+
+    @Override
+    public Category deleteById(final CategoryID id) {
+        return this.writes.deleteById(id);
+    }
+
+    @Override
+    public boolean softDeleteById(final CategoryID id) {
+        return this.writes.softDeleteById(id);
+    }
+
+    private Pagination<Category> findAllByFullText(final CategorySearchQuery query, final long offset) {
+        final var phrase = CategoryMySQLGateway.fullTextPhrase(query.terms());
+
+        final var where = " AND " + FULL_TEXT_MATCH;
+        final var orderBy = " ORDER BY " + FULL_TEXT_MATCH + " DESC, id";
+
+        if (!query.withTotal()) {
+            final var rows = page(SELECT + where + orderBy, List.of(phrase, phrase), offset, query.perPage() + 1);
+            final var hasNext = rows.size() > query.perPage();
+
+            return Pagination.slice(
+                    query.page(),
+                    query.perPage(),
+                    hasNext ? rows.subList(0, query.perPage()) : rows,
+                    hasNext
+            );
+        }
+
+        final var rows = page(SELECT + where + orderBy, List.of(phrase, phrase), offset, query.perPage());
+        final var total = count(COUNT + where, List.of(phrase));
+
+        return new Pagination<>(query.page(), query.perPage(), total, rows);
+    }
+
+    private List<Category> page(final String sql, final List<Object> arguments, final long offset, final int limit) {
+        final var values = new ArrayList<>(arguments);
+        values.add(limit);
+        values.add(offset);
+
+        return this.jdbcTemplate.query(sql + " LIMIT ? OFFSET ?", CATEGORY_MAPPER, values.toArray());
+    }
+
+    private long count(final String sql, final List<Object> arguments) {
+        final var total = this.jdbcTemplate.queryForObject(sql, Long.class, arguments.toArray());
+        return total == null ? 0L : total;
+    }
+
+    // Matches SpecificationUtils.like on name or description
+    private static void search(final String terms, final StringBuilder where, final List<Object> arguments) {
+        if (terms == null || terms.isEmpty()) return;
+
+        final var pattern = "%" + terms.toUpperCase() + "%";
+
+        where.append(SEARCH);
+        arguments.add(pattern);
+        arguments.add(pattern);
+    }
+
+    private static String orderBy(final String sort, final String direction) {
+        return " ORDER BY %s %s".formatted(sortColumn(sort), Sort.Direction.fromString(direction).name());
+    }
+
+    // Only known attributes reach the SQL, which also keeps the sort from being an injection point
+    static String sortColumn(final String sort) {
+        final var column = SORTABLE_COLUMNS.get(sort);
+
+        if (column == null) {
+            throw DomainException.with(new Error("Categories cannot be sorted by '%s'".formatted(sort)));
+        }
+
+        return column;
+    }
+
+    private static Object bindable(final Object value) {
+        return value instanceof Instant instant ? Timestamp.from(instant) : value;
+    }
+
+    private static Instant toInstant(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
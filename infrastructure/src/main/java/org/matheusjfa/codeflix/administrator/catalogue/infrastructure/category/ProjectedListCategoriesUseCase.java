@@ -0,0 +1,86 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesOutput;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryListRow;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+// Lists straight from the columns into ListCategoriesOutput, skipping the entity and the aggregate in between.
+// Full text searches still go through the gateway, whose native queries can only return entities.
+public class ProjectedListCategoriesUseCase extends ListCategoriesUseCase {
+    private final CategoryRepository repository;
+    private final ListCategoriesUseCase fallback;
+    private final long maxOffset;
+    private final boolean fullText;
+
+    public ProjectedListCategoriesUseCase(
+            final CategoryRepository repository,
+            final ListCategoriesUseCase fallback,
+            final long maxOffset,
+            final boolean fullText
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.fallback = Objects.requireNonNull(fallback);
+        this.maxOffset = maxOffset;
+        this.fullText = fullText;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<ListCategoriesOutput> execute(final ListCategoriesCommand command) {
+        final var query = command.query();
+        final var offset = CategoryMySQLGateway.offsetOf(query, this.maxOffset);
+
+        if (CategoryMySQLGateway.useFullText(this.fullText, query.terms())) return this.fallback.execute(command);
+
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var specifications = Specification.where(CategoryMySQLGateway.search(query.terms()));
+
+        if (!query.withTotal()) {
+            final var rows = this.repository.findRows(specifications, sort, offset, query.perPage() + 1);
+            final var hasNext = rows.size() > query.perPage();
+            final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+            return Pagination.slice(
+                    query.page(),
+                    query.perPage(),
+                    items.stream().map(ProjectedListCategoriesUseCase::toOutput).toList(),
+                    hasNext
+            );
+        }
+
+        final var rows = this.repository.findRows(specifications, sort, offset, query.perPage());
+
+        // A partial page already tells the total, as long as it isn't empty because the offset went past the end
+        final var total = !rows.isEmpty() && rows.size() < query.perPage()
+                ? offset + rows.size()
+                : this.repository.countMatching(specifications);
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                rows.stream().map(ProjectedListCategoriesUseCase::toOutput).toList()
+        );
+    }
+
+    private static ListCategoriesOutput toOutput(final CategoryListRow row) {
+        return new ListCategoriesOutput(
+                CategoryID.from(row.id()),
+                row.name(),
+                row.description(),
+                row.isActive(),
+                row.createdAt(),
+                row.updatedAt(),
+                row.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,422 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryDeleted;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryUpdated;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.events.DomainEvent;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeListener;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Same SQL as JdbcCategoryGateway over a non-blocking driver: a request waiting on the database holds no thread.
+// Writes keep the guarantees of CategoryMySQLGateway, the outbox and change log rows are inserted in the same
+// transaction as the change they describe. These writes bypass the blocking decorators, so the node's own cache and
+// search index are told about them once they commit, whether or not the change log is on.
+public class R2dbcCategoryGateway implements ReactiveCategoryGateway {
+    private static final String SELECT = """
+            SELECT id, name, description, is_active, created_at, updated_at, deleted_at, version
+            FROM category
+            WHERE removed_at IS NULL""";
+
+    private static final String COUNT = "SELECT COUNT(*) FROM category WHERE removed_at IS NULL";
+
+    private static final String SEARCH = " AND (UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms)";
+
+    private static final String FULL_TEXT_MATCH = "MATCH(name, description) AGAINST (:phrase IN BOOLEAN MODE)";
+
+    private static final String INSERT = """
+            INSERT INTO category (id, name, description, is_active, created_at, updated_at, deleted_at, version)
+            VALUES (:id, :name, :description, :isActive, :createdAt, :updatedAt, :deletedAt, :version)""";
+
+    // Mirrors CategoryRepositoryCustomImpl.patch, deactivating keeps the original deleted_at
+    private static final String PATCH = """
+            UPDATE category
+            SET name = :name, description = :description, is_active = :isActive, updated_at = :now,
+                deleted_at = %s, version = version + 1
+            WHERE id = :id AND removed_at IS NULL""";
+
+    // Mirrors CategoryRepositoryCustomImpl.softDelete, the row is archived later by CategoryArchivePurger
+    private static final String SOFT_DELETE = """
+            UPDATE category SET removed_at = :now, updated_at = :now
+            WHERE id = :id AND removed_at IS NULL""";
+
+    private static final String DELETE = "DELETE FROM category WHERE id = :id AND removed_at IS NULL";
+
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+    private final ZoneId zone;
+    private final long maxOffset;
+    private final boolean fullText;
+    private final boolean logChanges;
+    private final boolean outbox;
+    private final boolean softDelete;
+    private final List<CategoryChangeListener> listeners;
+
+    public R2dbcCategoryGateway(
+            final DatabaseClient client,
+            final TransactionalOperator transactions,
+            final ZoneId zone,
+            final long maxOffset,
+            final boolean fullText,
+            final boolean logChanges,
+            final boolean outbox,
+            final boolean softDelete,
+            final List<CategoryChangeListener> listeners
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.zone = Objects.requireNonNull(zone);
+        this.maxOffset = maxOffset;
+        this.fullText = fullText;
+        this.logChanges = logChanges;
+        this.outbox = outbox;
+        this.softDelete = softDelete;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Mono<Category> create(final Category category) {
+        final var events = List.copyOf(category.getDomainEvents());
+
+        final var values = new LinkedHashMap<String, Object>();
+        values.put("id", BinaryUUIDUtils.toBytes(category.getId().getValue()));
+        values.put("name", category.getName());
+        values.put("description", category.getDescription());
+        values.put("isActive", category.isActive());
+        values.put("createdAt", toDateTime(category.getCreatedAt()));
+        values.put("updatedAt", toDateTime(category.getUpdatedAt()));
+        values.put("deletedAt", toDateTime(category.getDeletedAt()));
+        values.put("version", category.getVersion());
+
+        return execute(INSERT, values)
+                .then(changed(category.getId()))
+                .then(publish(events))
+                .then(Mono.fromCallable(() -> {
+                    category.clearDomainEvents();
+                    return Category.with(category);
+                }))
+                .as(this.transactions::transactional)
+                .flatMap(created -> notifyListeners(category.getId(), created));
+    }
+
+    @Override
+    public Mono<Category> findById(final CategoryID id) {
+        return this.client.sql(SELECT + " AND id = :id")
+                .bind("id", BinaryUUIDUtils.toBytes(id.getValue()))
+                .map(this::toCategory)
+                .one();
+    }
+
+    @Override
+    public Mono<Pagination<Category>> findAll(final CategorySearchQuery query) {
+        // Deferred so an invalid page or sort is signalled as an error instead of thrown at assembly
+        return Mono.defer(() -> findPage(query));
+    }
+
+    @Override
+    public Flux<Category> streamAll(final CategorySearchQuery query) {
+        final var where = new StringBuilder();
+        final var values = new LinkedHashMap<String, Object>();
+        search(query.terms(), where, values);
+
+        return Flux.defer(() -> {
+            final var sql = SELECT + where + orderBy(query.sort(), query.direction()) + ", id";
+
+            return bind(this.client.sql(sql), values)
+                    .map(this::toCategory)
+                    .all();
+        });
+    }
+
+    @Override
+    public Mono<CategoryPatchResult> patch(final CategoryPatch patch) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        final var values = patchValues(patch, now);
+        final var changed = new StringBuilder(" AND (name <> :name OR is_active <> :isActive OR ");
+        changed.append(patch.description() == null
+                ? "description IS NOT NULL)"
+                : "description IS NULL OR description <> :description)");
+
+        // Compare-and-set on the version gives lost update protection without holding row locks
+        final var sql = patch.isVersioned()
+                ? patchSql(patch) + " AND version = :expectedVersion" + changed
+                : patchSql(patch) + changed;
+
+        if (patch.isVersioned()) values.put("expectedVersion", patch.expectedVersion());
+
+        return execute(sql, values)
+                .flatMap(affected -> affected > 0
+                        ? updated(patch.id())
+                        : fallback(patch, now))
+                .as(this.transactions::transactional)
+                .flatMap(result -> result == CategoryPatchResult.UPDATED
+                        ? notifyListeners(patch.id(), result)
+                        : Mono.just(result));
+    }
+
+    // A single statement, whose affected rows tell whether the category existed. A hard delete leaves a tombstone for
+    // the change feed, a soft one is reported through removed_at.
+    @Override
+    public Mono<CategoryID> deleteById(final CategoryID id) {
+        final var values = new LinkedHashMap<String, Object>();
+        values.put("id", BinaryUUIDUtils.toBytes(id.getValue()));
+
+        if (this.softDelete) values.put("now", toDateTime(Instant.now().truncatedTo(ChronoUnit.MICROS)));
+
+        return execute(this.softDelete ? SOFT_DELETE : DELETE, values)
+                .filter(affected -> affected > 0)
+                .flatMap(affected -> (this.softDelete ? Mono.<Void>empty() : tombstone(id))
+                        .then(changed(id))
+                        .then(publish(List.of(CategoryDeleted.of(id))))
+                        .thenReturn(id))
+                .as(this.transactions::transactional)
+                .flatMap(deleted -> notifyListeners(id, deleted));
+    }
+
+    private Mono<Pagination<Category>> findPage(final CategorySearchQuery query) {
+        final var offset = CategoryMySQLGateway.offsetOf(query, this.maxOffset);
+
+        final var where = new StringBuilder();
+        final var values = new LinkedHashMap<String, Object>();
+        final String orderBy;
+
+        if (CategoryMySQLGateway.useFullText(this.fullText, query.terms())) {
+            values.put("phrase", CategoryMySQLGateway.fullTextPhrase(query.terms()));
+            where.append(" AND ").append(FULL_TEXT_MATCH);
+            orderBy = " ORDER BY " + FULL_TEXT_MATCH + " DESC, id";
+        } else {
+            search(query.terms(), where, values);
+            orderBy = orderBy(query.sort(), query.direction());
+        }
+
+        if (!query.withTotal()) {
+            return page(SELECT + where + orderBy, values, offset, query.perPage() + 1)
+                    .map(rows -> {
+                        final var hasNext = rows.size() > query.perPage();
+
+                        return Pagination.slice(
+                                query.page(),
+                                query.perPage(),
+                                hasNext ? rows.subList(0, query.perPage()) : rows,
+                                hasNext
+                        );
+                    });
+        }
+
+        return page(SELECT + where + orderBy, values, offset, query.perPage())
+                .flatMap(rows -> {
+                    // A partial page already tells the total, the COUNT(*) is only needed for full pages
+                    final var total = !rows.isEmpty() && rows.size() < query.perPage()
+                            ? Mono.just(offset + rows.size())
+                            : count(COUNT + where, values);
+
+                    return total.map(value -> new Pagination<>(query.page(), query.perPage(), value, rows));
+                });
+    }
+
+    // No row changed: the id doesn't exist, someone else changed it first, the values were already there,
+    // or they only differ in case or accents, which the column collation treats as equal
+    private Mono<CategoryPatchResult> fallback(final CategoryPatch patch, final Instant now) {
+        return findById(patch.id())
+                .flatMap(current -> {
+                    if (patch.isVersioned() && current.getVersion() != patch.expectedVersion()) {
+                        return Mono.just(CategoryPatchResult.CONFLICT);
+                    }
+
+                    if (Objects.equals(current.getName(), patch.name())
+                            && Objects.equals(current.getDescription(), patch.description())
+                            && current.isActive() == patch.isActive()) {
+                        return Mono.just(CategoryPatchResult.UNCHANGED);
+                    }
+
+                    final var values = patchValues(patch, now);
+                    values.put("expectedVersion", current.getVersion());
+
+                    return execute(patchSql(patch) + " AND version = :expectedVersion", values)
+                            .flatMap(affected -> affected > 0
+                                    ? updated(patch.id())
+                                    : Mono.just(CategoryPatchResult.CONFLICT));
+                })
+                .defaultIfEmpty(CategoryPatchResult.NOT_FOUND);
+    }
+
+    private Mono<CategoryPatchResult> updated(final CategoryID id) {
+        return changed(id)
+                .then(publish(List.of(CategoryUpdated.of(id))))
+                .thenReturn(CategoryPatchResult.UPDATED);
+    }
+
+    private Map<String, Object> patchValues(final CategoryPatch patch, final Instant now) {
+        final var values = new LinkedHashMap<String, Object>();
+        values.put("id", BinaryUUIDUtils.toBytes(patch.id().getValue()));
+        values.put("name", patch.name());
+        values.put("description", patch.description());
+        values.put("isActive", patch.isActive());
+        values.put("now", toDateTime(now));
+        return values;
+    }
+
+    private static String patchSql(final CategoryPatch patch) {
+        return PATCH.formatted(patch.isActive() ? "NULL" : "COALESCE(deleted_at, :now)");
+    }
+
+    // Same rows as CategoryChangeLog.append, in the reactive transaction instead of the JDBC one
+    // Listeners reload rows through blocking JDBC, so they run on a worker rather than on a driver thread
+    private <T> Mono<T> notifyListeners(final CategoryID id, final T result) {
+        if (this.listeners.isEmpty()) return Mono.just(result);
+
+        return Mono.fromRunnable(() -> this.listeners.forEach(listener -> listener.changed(List.of(id))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(result);
+    }
+
+    // Same row as CategoryTombstones.append, written whatever logChanges says
+    private Mono<Void> tombstone(final CategoryID id) {
+        final var values = new LinkedHashMap<String, Object>();
+        values.put("id", BinaryUUIDUtils.toBytes(id.getValue()));
+        values.put("deletedAt", toDateTime(Instant.now().truncatedTo(ChronoUnit.MICROS)));
+
+        return execute("INSERT INTO category_tombstones (id, deleted_at) VALUES (:id, :deletedAt)", values)
+                .then();
+    }
+
+    private Mono<Void> changed(final CategoryID id) {
+        if (!this.logChanges) return Mono.empty();
+
+        final var values = new LinkedHashMap<String, Object>();
+        values.put("id", BinaryUUIDUtils.toBytes(id.getValue()));
+        values.put("changedAt", toDateTime(Instant.now()));
+
+        return execute("INSERT INTO category_changes (category_id, changed_at) VALUES (:id, :changedAt)", values)
+                .then();
+    }
+
+    // Same rows as Outbox.append, relayed by OutboxRelay like any other event
+    private Mono<Void> publish(final Collection<? extends DomainEvent> events) {
+        if (!this.outbox || events.isEmpty()) return Mono.empty();
+
+        return Flux.fromIterable(events)
+                .concatMap(event -> {
+                    final var values = new LinkedHashMap<String, Object>();
+                    values.put("eventType", event.getClass().getSimpleName());
+                    values.put("aggregateId", event.aggregateId());
+                    values.put("occurredOn", toDateTime(event.occurredOn()));
+
+                    return execute(
+                            "INSERT INTO outbox (event_type, aggregate_id, occurred_on) VALUES (:eventType, :aggregateId, :occurredOn)",
+                            values
+                    );
+                })
+                .then();
+    }
+
+    private Mono<List<Category>> page(
+            final String sql,
+            final Map<String, Object> values,
+            final long offset,
+            final int limit
+    ) {
+        final var arguments = new LinkedHashMap<>(values);
+        arguments.put("limit", limit);
+        arguments.put("offset", offset);
+
+        return bind(this.client.sql(sql + " LIMIT :limit OFFSET :offset"), arguments)
+                .map(this::toCategory)
+                .all()
+                .collectList();
+    }
+
+    private Mono<Long> count(final String sql, final Map<String, Object> values) {
+        return bind(this.client.sql(sql), values)
+                .map((row, metadata) -> ((Number) Objects.requireNonNull(row.get(0))).longValue())
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Integer> execute(final String sql, final Map<String, Object> values) {
+        return bind(this.client.sql(sql), values)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(
+            final DatabaseClient.GenericExecuteSpec spec,
+            final Map<String, Object> values
+    ) {
+        var bound = spec;
+
+        for (final var value : values.entrySet()) {
+            bound = value.getValue() == null
+                    ? bound.bindNull(value.getKey(), nullType(value.getKey()))
+                    : bound.bind(value.getKey(), value.getValue());
+        }
+
+        return bound;
+    }
+
+    private static Class<?> nullType(final String name) {
+        return name.endsWith("At") ? LocalDateTime.class : String.class;
+    }
+
+    // Matches SpecificationUtils.like on name or description
+    private static void search(final String terms, final StringBuilder where, final Map<String, Object> values) {
+        if (terms == null || terms.isEmpty()) return;
+
+        where.append(SEARCH);
+        values.put("terms", "%" + terms.toUpperCase() + "%");
+    }
+
+    private static String orderBy(final String sort, final String direction) {
+        return " ORDER BY %s %s".formatted(
+                JdbcCategoryGateway.sortColumn(sort),
+                Sort.Direction.fromString(direction).name()
+        );
+    }
+
+    // Columns are read by position, like JdbcCategoryGateway does
+    private Category toCategory(final Row row, final RowMetadata metadata) {
+        return Category.with(
+                CategoryID.from(BinaryUUIDUtils.fromBytes(row.get(0, byte[].class))),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                Boolean.TRUE.equals(row.get(3, Boolean.class)),
+                toInstant(row.get(4, LocalDateTime.class)),
+                toInstant(row.get(5, LocalDateTime.class)),
+                toInstant(row.get(6, LocalDateTime.class)),
+                ((Number) Objects.requireNonNull(row.get(7))).longValue()
+        );
+    }
+
+    // DATETIME columns carry no zone, the drivers read and write them in the zone given to the gateway
+    private LocalDateTime toDateTime(final Instant instant) {
+        return instant == null ? null : LocalDateTime.ofInstant(instant, this.zone);
+    }
+
+    private Instant toInstant(final LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.atZone(this.zone).toInstant();
+    }
+}
@@ -0,0 +1,134 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.archive;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// Moves categories soft deleted longer than the retention window into category_archive. Each chunk is its own
+// short transaction, walked in (removed_at, id) order, with a pause between chunks to leave room for live traffic
+@Component
+@ConditionalOnProperty(name = "catalogue.category.archive.enabled", havingValue = "true")
+public class CategoryArchivePurger {
+    private static final String COLUMNS = "id, name, description, is_active, created_at, updated_at, deleted_at, removed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration throttle;
+
+    public CategoryArchivePurger(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            @Value("${catalogue.category.archive.retention:P30D}") final Duration retention,
+            @Value("${catalogue.category.archive.chunk-size:500}") final int chunkSize,
+            @Value("${catalogue.category.archive.throttle:PT0.2S}") final Duration throttle
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Objects.requireNonNull(retention);
+        this.chunkSize = chunkSize;
+        this.throttle = Objects.requireNonNull(throttle);
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogue.category.archive.interval:PT10M}",
+            fixedDelayString = "${catalogue.category.archive.interval:PT10M}"
+    )
+    public void purge() {
+        purge(Instant.now().minus(this.retention));
+    }
+
+    public long purge(final Instant removedBefore) {
+        final var cutoff = Timestamp.from(removedBefore);
+
+        var archived = 0L;
+        Removed last = null;
+
+        while (true) {
+            final var chunk = nextChunk(cutoff, last);
+            if (chunk.isEmpty()) return archived;
+
+            final var ids = chunk.stream().map(Removed::id).toList();
+            // Only rows readers no longer see are moved, so reads don't have to follow this write to the primary
+            archived += Objects.requireNonNull(ReadWriteRoutingDataSource.untracked(
+                    () -> this.transactionTemplate.execute(status -> archive(ids))
+            ));
+
+            if (chunk.size() < this.chunkSize || !pause()) return archived;
+
+            last = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    private List<Removed> nextChunk(final Timestamp cutoff, final Removed last) {
+        if (last == null) {
+            return this.jdbcTemplate.query(
+                    "SELECT id, removed_at FROM category WHERE removed_at < ? ORDER BY removed_at, id LIMIT ?",
+                    (rs, rowNum) -> new Removed(rs.getBytes("id"), rs.getTimestamp("removed_at")),
+                    cutoff,
+                    this.chunkSize
+            );
+        }
+
+        return this.jdbcTemplate.query(
+                """
+                SELECT id, removed_at FROM category
+                WHERE removed_at < ? AND (removed_at > ? OR (removed_at = ? AND id > ?))
+                ORDER BY removed_at, id LIMIT ?""",
+                (rs, rowNum) -> new Removed(rs.getBytes("id"), rs.getTimestamp("removed_at")),
+                cutoff,
+                last.removedAt(),
+                last.removedAt(),
+                last.id(),
+                this.chunkSize
+        );
+    }
+
+    private int archive(final List<byte[]> ids) {
+        final var placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+        final var insertArgs = new ArrayList<Object>(ids.size() + 1);
+        insertArgs.add(Timestamp.from(Instant.now()));
+        insertArgs.addAll(ids);
+
+        this.jdbcTemplate.update(
+                "INSERT INTO category_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS + ", ? FROM category"
+                        + " WHERE removed_at IS NOT NULL AND id IN (" + placeholders + ")",
+                insertArgs.toArray()
+        );
+
+        return this.jdbcTemplate.update(
+                "DELETE FROM category WHERE removed_at IS NOT NULL AND id IN (" + placeholders + ")",
+                ids.toArray()
+        );
+    }
+
+    private boolean pause() {
+        if (this.throttle.isZero()) return true;
+
+        try {
+            Thread.sleep(this.throttle.toMillis());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Removed(byte[] id, Timestamp removedAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachingCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final CategoryCache cache;
+
+    public CachingCategoryGateway(final CategoryGateway delegate, final CategoryCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        this.cache.put(created);
+        this.cache.invalidatePages();
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.delegate.createAll(categories);
+        created.forEach(this.cache::put);
+        this.cache.invalidatePages();
+        return created;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.cache.get(id, this.delegate::findById);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.cache.getPage(query, this.delegate::findAll);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    @Override
+    public ChangeFeed<CategoryFeedItem> findChangesSince(final CategoryChangesQuery query) {
+        return this.delegate.findChangesSince(query);
+    }
+
+    @Override
+    public long streamAll(final CategorySearchQuery query, final Consumer<Category> consumer) {
+        return this.delegate.streamAll(query, consumer);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        this.cache.put(updated);
+        this.cache.invalidatePages();
+        return updated;
+    }
+
+    @Override
+    public CategoryPatchResult patch(final CategoryPatch patch) {
+        final var result = this.delegate.patch(patch);
+
+        // The database sets updatedAt and the version, so the entry is reloaded on the next read instead of patched here
+        if (result == CategoryPatchResult.UPDATED) {
+            this.cache.invalidate(patch.id());
+            this.cache.invalidatePages();
+        }
+
+        return result;
+    }
+
+    @Override
+    public long updateStatusByIds(final List<CategoryID> ids, final boolean isActive) {
+        final var affected = this.delegate.updateStatusByIds(ids, isActive);
+        this.cache.invalidateAll(ids);
+        this.cache.invalidatePages();
+        return affected;
+    }
+
+    @Override
+    public long updateStatusByTerms(final String terms, final boolean isActive) {
+        final var affected = this.delegate.updateStatusByTerms(terms, isActive);
+
+        // Only the database knows which rows matched the terms
+        if (affected > 0) {
+            this.cache.invalidateAll();
+            this.cache.invalidatePages();
+        }
+
+        return affected;
+    }
+
+    @Override
+    public Category deleteById(final CategoryID id) {
+        final var deleted = this.delegate.deleteById(id);
+        this.cache.invalidate(id);
+        this.cache.invalidatePages();
+        return deleted;
+    }
+
+    @Override
+    public boolean softDeleteById(final CategoryID id) {
+        final var deleted = this.delegate.softDeleteById(id);
+        this.cache.invalidate(id);
+        this.cache.invalidatePages();
+        return deleted;
+    }
+}
@@ -0,0 +1,141 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Bounded (W-TinyLFU) and expiring cache of categories by id and of search pages. Category is mutable, so only
+// copies go in and out. Being a MeterBinder, its hits, misses, evictions and sizes are published to the
+// application's meter registry as the cache.* metrics of the "category" and "category-pages" caches.
+public class CategoryCache implements CategoryChangeListener, MeterBinder {
+    private final Cache<CategoryID, Category> byId;
+    private final Cache<PageKey, Pagination<Category>> pages;
+
+    // Every write bumps the generation, which makes all cached pages unreachable at once. They are left to be
+    // evicted by size or TTL, so no key has to be scanned.
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryCache(
+            final long maximumSize,
+            final Duration ttl,
+            final long maximumPages,
+            final Duration pageTtl
+    ) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumPages)
+                .expireAfterWrite(pageTtl)
+                .recordStats()
+                .build();
+    }
+
+    // Queries that only differ in spacing or letter case produce the same result, so they share one entry
+    public static CategorySearchQuery normalize(final CategorySearchQuery query) {
+        final var terms = query.terms() == null || query.terms().isBlank()
+                ? null
+                : query.terms().trim().toLowerCase(Locale.ROOT);
+
+        return new CategorySearchQuery(
+                query.page(),
+                query.perPage(),
+                terms,
+                query.sort().trim(),
+                query.direction().trim().toLowerCase(Locale.ROOT),
+                query.withTotal()
+        );
+    }
+
+    public Pagination<Category> getPage(
+            final CategorySearchQuery query,
+            final Function<CategorySearchQuery, Pagination<Category>> loader
+    ) {
+        final var normalized = normalize(query);
+
+        // The generation is read before loading, so a page read before a concurrent write lands under the old one
+        final var cached = this.pages.get(
+                new PageKey(this.generation.get(), normalized),
+                key -> loader.apply(key.query()).map(Category::clone)
+        );
+
+        return cached.map(Category::clone);
+    }
+
+    public void invalidatePages() {
+        this.generation.incrementAndGet();
+    }
+
+    public Optional<Category> get(final CategoryID id, final Function<CategoryID, Optional<Category>> loader) {
+        // Misses are not cached, a null from the mapping function leaves no entry behind
+        final var cached = this.byId.get(id, key -> loader.apply(key).map(Category::clone).orElse(null));
+        return Optional.ofNullable(cached).map(Category::clone);
+    }
+
+    public void put(final Category category) {
+        this.byId.put(category.getId(), category.clone());
+    }
+
+    public void invalidate(final CategoryID id) {
+        this.byId.invalidate(id);
+    }
+
+    public void invalidateAll(final Collection<CategoryID> ids) {
+        this.byId.invalidateAll(ids);
+    }
+
+    public void invalidateAll() {
+        this.byId.invalidateAll();
+    }
+
+    @Override
+    public void changed(final Collection<CategoryID> ids) {
+        invalidateAll(ids);
+        invalidatePages();
+    }
+
+    @Override
+    public void changedAll() {
+        invalidateAll();
+        invalidatePages();
+    }
+
+    public long size() {
+        return this.byId.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.byId, "category");
+        CaffeineCacheMetrics.monitor(registry, this.pages, "category-pages");
+    }
+
+    public CacheStats stats() {
+        return this.byId.stats();
+    }
+
+    public CacheStats pageStats() {
+        return this.pages.stats();
+    }
+
+    private record PageKey(long generation, CategorySearchQuery query) {
+    }
+}
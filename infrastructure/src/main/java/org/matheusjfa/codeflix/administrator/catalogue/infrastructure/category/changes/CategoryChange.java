@@ -0,0 +1,10 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+
+// A null id means the change was not tracked row by row, e.g. a status update by search terms
+public record CategoryChange(long sequence, CategoryID id) {
+    public boolean isGlobal() {
+        return this.id == null;
+    }
+}
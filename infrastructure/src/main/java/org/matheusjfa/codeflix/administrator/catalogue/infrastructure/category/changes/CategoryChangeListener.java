@@ -0,0 +1,15 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+
+import java.util.Collection;
+
+// Whatever a node keeps of the categories outside the database, told by the poller about every committed write,
+// including the ones made on other nodes, and by R2dbcCategoryGateway about its own. The same id may be delivered
+// more than once.
+public interface CategoryChangeListener {
+    void changed(Collection<CategoryID> ids);
+
+    // A write that was not tracked row by row, e.g. a status update by search terms
+    void changedAll();
+}
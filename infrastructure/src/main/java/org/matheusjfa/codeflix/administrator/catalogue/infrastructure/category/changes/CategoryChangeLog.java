@@ -0,0 +1,69 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// Appends to category_changes through the same connection as the surrounding JPA transaction, so a change is
+// only visible to other nodes once the write it describes has committed
+@Component
+public class CategoryChangeLog {
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryChangeLog(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public void append(final Collection<CategoryID> ids) {
+        if (ids.isEmpty()) return;
+
+        final var now = Timestamp.from(Instant.now());
+        final var rows = ids.stream()
+                .distinct()
+                .map(id -> new Object[]{BinaryUUIDUtils.toBytes(id.getValue()), now})
+                .toList();
+
+        this.jdbcTemplate.batchUpdate("INSERT INTO category_changes (category_id, changed_at) VALUES (?, ?)", rows);
+    }
+
+    public void appendGlobal() {
+        this.jdbcTemplate.update(
+                "INSERT INTO category_changes (category_id, changed_at) VALUES (NULL, ?)",
+                Timestamp.from(Instant.now())
+        );
+    }
+
+    public List<CategoryChange> readAfter(final long sequence, final int limit) {
+        return this.jdbcTemplate.query(
+                "SELECT sequence, category_id FROM category_changes WHERE sequence > ? ORDER BY sequence LIMIT ?",
+                (rs, rowNum) -> {
+                    final var id = rs.getBytes("category_id");
+                    return new CategoryChange(
+                            rs.getLong("sequence"),
+                            id == null ? null : CategoryID.from(BinaryUUIDUtils.fromBytes(id))
+                    );
+                },
+                sequence,
+                limit
+        );
+    }
+
+    public long lastSequence() {
+        final var last = this.jdbcTemplate.queryForObject("SELECT MAX(sequence) FROM category_changes", Long.class);
+        return last == null ? 0L : last;
+    }
+
+    public int purgeBefore(final Instant changedBefore) {
+        return this.jdbcTemplate.update(
+                "DELETE FROM category_changes WHERE changed_at < ?",
+                Timestamp.from(changedBefore)
+        );
+    }
+}
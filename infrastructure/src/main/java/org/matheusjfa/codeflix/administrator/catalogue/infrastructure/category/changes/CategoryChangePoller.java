@@ -0,0 +1,150 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Follows category_changes by increasing sequence and hands the changed ids to this node's listeners, the cache and
+// the search index, so writes made on other nodes stop being served from memory within one poll interval.
+// With a replica, a listener may read a changed row again before it has replicated and keep the old one, so every
+// change is delivered a second time once read-your-writes has passed, when the replica is expected to have it.
+@Component
+@ConditionalOnProperty(name = "catalogue.category.changes.enabled", havingValue = "true")
+public class CategoryChangePoller {
+    private static final long NOT_STARTED = -1L;
+
+    private final CategoryChangeLog changeLog;
+    private final List<CategoryChangeListener> listeners;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Duration redeliverAfter;
+    private final Deque<Redelivery> redeliveries = new ArrayDeque<>();
+
+    // Every change up to this sequence has been applied
+    private long lastSequence = NOT_STARTED;
+    private Instant gapSince;
+
+    // Changes past a gap are read again on every poll until the gap fills or times out, these were delivered already
+    private final NavigableSet<Long> deliveredAhead = new TreeSet<>();
+
+    public CategoryChangePoller(
+            final CategoryChangeLog changeLog,
+            final ObjectProvider<CategoryChangeListener> listeners,
+            @Value("${catalogue.category.changes.batch-size:1000}") final int batchSize,
+            @Value("${catalogue.category.changes.gap-timeout:PT10S}") final Duration gapTimeout,
+            @Value("${catalogue.category.changes.retention:PT1H}") final Duration retention,
+            @Value("${catalogue.datasource.replica.enabled:false}") final boolean replica,
+            @Value("${catalogue.datasource.replica.read-your-writes:PT2S}") final Duration readYourWrites
+    ) {
+        this.changeLog = Objects.requireNonNull(changeLog);
+        this.listeners = listeners.orderedStream().toList();
+        this.batchSize = batchSize;
+        this.gapTimeout = Objects.requireNonNull(gapTimeout);
+        this.retention = Objects.requireNonNull(retention);
+        this.redeliverAfter = replica ? Objects.requireNonNull(readYourWrites) : Duration.ZERO;
+    }
+
+    @Scheduled(fixedDelayString = "${catalogue.category.changes.poll-interval:PT1S}")
+    public synchronized void poll() {
+        if (this.listeners.isEmpty()) return;
+
+        redeliverDue(Instant.now());
+
+        // The cache starts empty and the index is rebuilt from the table, so the history before this node came up
+        // is irrelevant
+        if (this.lastSequence == NOT_STARTED) {
+            this.lastSequence = this.changeLog.lastSequence();
+            return;
+        }
+
+        while (true) {
+            final var changes = this.changeLog.readAfter(this.lastSequence, this.batchSize);
+            if (changes.isEmpty()) return;
+
+            deliver(changes.stream().filter(change -> this.deliveredAhead.add(change.sequence())).toList());
+
+            // Sequences are taken at insert time but become visible at commit, so a lower one can still show up.
+            // The position only moves over contiguous sequences, and a gap is given up on once it is old enough,
+            // since rolled back transactions leave gaps that never fill.
+            var contiguous = this.lastSequence;
+            for (final var change : changes) {
+                if (change.sequence() != contiguous + 1) break;
+                contiguous = change.sequence();
+            }
+
+            final var last = changes.get(changes.size() - 1).sequence();
+
+            if (contiguous < last) {
+                final var now = Instant.now();
+
+                if (this.gapSince == null) this.gapSince = now;
+
+                if (Duration.between(this.gapSince, now).compareTo(this.gapTimeout) < 0) {
+                    this.lastSequence = contiguous;
+                    this.deliveredAhead.headSet(contiguous, true).clear();
+                    return;
+                }
+
+                contiguous = last;
+            }
+
+            this.gapSince = null;
+            this.lastSequence = contiguous;
+            this.deliveredAhead.headSet(contiguous, true).clear();
+
+            if (changes.size() < this.batchSize) return;
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogue.category.changes.prune-interval:PT5M}",
+            fixedDelayString = "${catalogue.category.changes.prune-interval:PT5M}"
+    )
+    public void prune() {
+        this.changeLog.purgeBefore(Instant.now().minus(this.retention));
+    }
+
+    private void deliver(final List<CategoryChange> changes) {
+        if (changes.isEmpty()) return;
+
+        final var global = changes.stream().anyMatch(CategoryChange::isGlobal);
+        final var ids = global ? List.<CategoryID>of() : changes.stream().map(CategoryChange::id).distinct().toList();
+
+        deliver(global, ids);
+
+        if (!this.redeliverAfter.isZero()) {
+            this.redeliveries.add(new Redelivery(Instant.now().plus(this.redeliverAfter), global, ids));
+        }
+    }
+
+    private void redeliverDue(final Instant now) {
+        while (!this.redeliveries.isEmpty() && !this.redeliveries.peek().dueAt().isAfter(now)) {
+            final var redelivery = this.redeliveries.poll();
+            deliver(redelivery.global(), redelivery.ids());
+        }
+    }
+
+    private void deliver(final boolean global, final Collection<CategoryID> ids) {
+        for (final var listener : this.listeners) {
+            if (global) listener.changedAll();
+            else listener.changed(ids);
+        }
+    }
+
+    private record Redelivery(Instant dueAt, boolean global, List<CategoryID> ids) {
+    }
+}
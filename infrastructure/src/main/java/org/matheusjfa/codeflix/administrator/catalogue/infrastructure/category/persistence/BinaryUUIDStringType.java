@@ -0,0 +1,57 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+
+// Keeps ids as canonical UUID strings in Java while storing them as BINARY(16).
+// A Hibernate type is used because JPA attribute converters are not applied to @Id attributes.
+public class BinaryUUIDStringType extends AbstractSingleColumnStandardBasicType<String> {
+    public static final String NAME = "org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.BinaryUUIDStringType";
+
+    public BinaryUUIDStringType() {
+        super(BinaryTypeDescriptor.INSTANCE, UUIDStringDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "binary-uuid-string";
+    }
+
+    private static final class UUIDStringDescriptor extends AbstractTypeDescriptor<String> {
+        private static final UUIDStringDescriptor INSTANCE = new UUIDStringDescriptor();
+
+        private UUIDStringDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) return null;
+            if (byte[].class.isAssignableFrom(type)) return (X) BinaryUUIDUtils.toBytes(value);
+            if (String.class.isAssignableFrom(type)) return (X) value;
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) return null;
+            if (value instanceof byte[] bytes) return BinaryUUIDUtils.fromBytes(bytes);
+            if (value instanceof String string) return string;
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
+
+import java.util.List;
+
+// A page read together with the size of the whole filtered set. total is only known when rows isn't empty.
+public record CategoryCountedPage(List<CategoryJPAEntity> rows, long total) {
+}
@@ -1,18 +1,29 @@
 package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
 
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.Where;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJPAEntity {
+// Soft deleted rows stay in the table until the archive purger moves them, and must never be read back
+@Where(clause = "removed_at IS NULL")
+public class CategoryJPAEntity implements Persistable<String> {
     @Id
+    @Type(type = BinaryUUIDStringType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -33,6 +44,17 @@ public class CategoryJPAEntity {
     @Column(name = "deleted_at", nullable = true, columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Column(name = "removed_at", nullable = true, columnDefinition = "DATETIME(6)")
+    private Instant removedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // With an assigned id Spring Data can't tell new rows apart, so save() would merge (SELECT + INSERT) without it
+    @Transient
+    private boolean isNew;
+
     public CategoryJPAEntity() {}
 
     private CategoryJPAEntity(
@@ -42,7 +64,8 @@ public class CategoryJPAEntity {
             final boolean isActive,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -51,6 +74,7 @@ public class CategoryJPAEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJPAEntity from(final Category category) {
@@ -61,10 +85,17 @@ public class CategoryJPAEntity {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
+    public static CategoryJPAEntity fromNew(final Category category) {
+        final var entity = from(category);
+        entity.isNew = true;
+        return entity;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -73,10 +104,23 @@ public class CategoryJPAEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -132,4 +176,20 @@ public class CategoryJPAEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Instant getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(Instant removedAt) {
+        this.removedAt = removedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
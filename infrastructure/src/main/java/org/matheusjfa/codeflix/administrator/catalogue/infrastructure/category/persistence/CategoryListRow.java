@@ -0,0 +1,15 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
+
+import java.time.Instant;
+
+// Filled by a constructor expression, so Hibernate never creates a managed entity or a dirty-checking snapshot for it
+public record CategoryListRow(
+        String id,
+        String name,
+        String description,
+        boolean isActive,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+}
@@ -2,9 +2,61 @@ package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface CategoryRepository extends JpaRepository<CategoryJPAEntity, String>, CategoryRepositoryCustom {
+    String FULL_TEXT_MATCH = "MATCH(c.name, c.description) AGAINST (:terms IN BOOLEAN MODE)";
+
+    // Native queries bypass the entity @Where, so they filter soft deleted rows themselves
+    String FULL_TEXT_WHERE = FULL_TEXT_MATCH + " AND c.removed_at IS NULL";
 
-public interface CategoryRepository extends JpaRepository<CategoryJPAEntity, String> {
     Page<CategoryJPAEntity> findAll(Specification<CategoryJPAEntity> where, Pageable page);
+
+    @Query(
+            value = "SELECT c.* FROM category c WHERE " + FULL_TEXT_WHERE
+                    + " ORDER BY " + FULL_TEXT_MATCH + " DESC, c.id",
+            countQuery = "SELECT COUNT(*) FROM category c WHERE " + FULL_TEXT_WHERE,
+            nativeQuery = true
+    )
+    Page<CategoryJPAEntity> searchFullText(@Param("terms") String terms, Pageable page);
+
+    @Query(
+            value = "SELECT c.* FROM category c WHERE " + FULL_TEXT_WHERE
+                    + " ORDER BY " + FULL_TEXT_MATCH + " DESC, c.id",
+            nativeQuery = true
+    )
+    Slice<CategoryJPAEntity> searchFullTextSlice(@Param("terms") String terms, Pageable page);
+
+    // Native on purpose: the change feed has to see soft deleted rows to report them as tombstones. The range on
+    // updated_at followed by the id tiebreak is a seek on idx_category_updated_at_id.
+    @Query(
+            value = """
+                    SELECT c.* FROM category c
+                    WHERE c.updated_at >= :updatedAt AND (c.updated_at > :updatedAt OR c.id > :id)
+                      AND c.updated_at < :until
+                    ORDER BY c.updated_at, c.id""",
+            nativeQuery = true
+    )
+    List<CategoryJPAEntity> findChangedSince(
+            @Param("updatedAt") Instant updatedAt,
+            @Param("id") byte[] id,
+            @Param("until") Instant until,
+            Pageable page
+    );
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c FROM CategoryJPAEntity c")
+    Stream<CategoryJPAEntity> streamAll();
 }
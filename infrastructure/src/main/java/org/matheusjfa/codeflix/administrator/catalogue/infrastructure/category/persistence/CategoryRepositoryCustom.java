@@ -0,0 +1,33 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CategoryRepositoryCustom {
+    List<CategoryJPAEntity> findSlice(Specification<CategoryJPAEntity> where, Sort sort, long offset, int limit);
+
+    List<CategoryListRow> findRows(Specification<CategoryJPAEntity> where, Sort sort, long offset, int limit);
+
+    long countMatching(Specification<CategoryJPAEntity> where);
+
+    long countMatching(Specification<CategoryJPAEntity> where, Duration timeout);
+
+    CategoryCountedPage findPageCountingAll(String terms, String column, Sort.Direction direction, long offset, int limit);
+
+    Stream<CategoryJPAEntity> streamMatching(Specification<CategoryJPAEntity> where, Sort sort);
+
+    List<String> findIds(Specification<CategoryJPAEntity> where);
+
+    List<CategoryJPAEntity> persistAll(List<CategoryJPAEntity> entities);
+
+    int updateStatus(Specification<CategoryJPAEntity> where, boolean isActive, Instant now);
+
+    int patch(String id, Long expectedVersion, String name, String description, boolean isActive, Instant now);
+
+    int softDelete(String id, Instant now);
+}
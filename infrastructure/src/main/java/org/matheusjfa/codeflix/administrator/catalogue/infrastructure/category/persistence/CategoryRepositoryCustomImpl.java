@@ -0,0 +1,326 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
+
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public CategoryRepositoryCustomImpl(
+            final EntityManager entityManager,
+            @Value("${catalogue.persistence.batch-size:500}") final int batchSize
+    ) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<CategoryJPAEntity> findSlice(
+            final Specification<CategoryJPAEntity> where,
+            final Sort sort,
+            final long offset,
+            final int limit
+    ) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(CategoryJPAEntity.class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        final var predicate = where == null ? null : where.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<CategoryListRow> findRows(
+            final Specification<CategoryJPAEntity> where,
+            final Sort sort,
+            final long offset,
+            final int limit
+    ) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(CategoryListRow.class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        final var predicate = where == null ? null : where.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+
+        query.select(builder.construct(
+                CategoryListRow.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("isActive"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt")
+        ));
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(final Specification<CategoryJPAEntity> where) {
+        return countQuery(where).getSingleResult();
+    }
+
+    // Hibernate takes the hint in milliseconds but sets the statement timeout in whole seconds
+    @Override
+    public long countMatching(final Specification<CategoryJPAEntity> where, final Duration timeout) {
+        return countQuery(where)
+                .setHint(SPEC_HINT_TIMEOUT, Math.toIntExact(Math.max(1, timeout.toSeconds()) * 1_000))
+                .getSingleResult();
+    }
+
+    private TypedQuery<Long> countQuery(final Specification<CategoryJPAEntity> where) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(Long.class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        final var predicate = where == null ? null : where.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+
+        query.select(builder.count(root));
+
+        return this.entityManager.createQuery(query);
+    }
+
+    // COUNT(*) OVER() puts the size of the whole filtered set on every row, so the page and its total come back from
+    // one statement. Native, since JPQL has no window functions: the column has to be one the caller already checked.
+    @Override
+    @SuppressWarnings("unchecked")
+    public CategoryCountedPage findPageCountingAll(
+            final String terms,
+            final String column,
+            final Sort.Direction direction,
+            final long offset,
+            final int limit
+    ) {
+        final var hasTerms = terms != null && !terms.isEmpty();
+
+        final var sql = new StringBuilder("""
+                SELECT c.*, COUNT(*) OVER() AS total
+                FROM category c
+                WHERE c.removed_at IS NULL""");
+
+        if (hasTerms) sql.append(" AND (UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms)");
+
+        sql.append(" ORDER BY c.%s %s LIMIT :limit OFFSET :offset".formatted(column, direction.name()));
+
+        final NativeQuery<Object[]> query = this.entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addEntity("c", CategoryJPAEntity.class)
+                .addScalar("total", StandardBasicTypes.LONG);
+
+        query.setParameter("limit", limit);
+        query.setParameter("offset", offset);
+
+        if (hasTerms) query.setParameter("terms", "%" + terms.toUpperCase() + "%");
+
+        final var rows = query.getResultList();
+
+        return new CategoryCountedPage(
+                rows.stream().map(row -> (CategoryJPAEntity) row[0]).toList(),
+                rows.isEmpty() ? 0L : (Long) rows.get(0)[1]
+        );
+    }
+
+    // A forward-only cursor that fetches batch-size rows per round trip, with every entity detached once it has
+    // been handed out, so neither the result set nor the persistence context grow with the number of rows
+    @Override
+    public Stream<CategoryJPAEntity> streamMatching(final Specification<CategoryJPAEntity> where, final Sort sort) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(CategoryJPAEntity.class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        final var predicate = where == null ? null : where.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return this.entityManager.createQuery(query)
+                .setHint(HINT_FETCH_SIZE, this.batchSize)
+                .setHint(HINT_READONLY, true)
+                .getResultStream()
+                .peek(this.entityManager::detach);
+    }
+
+    @Override
+    public List<String> findIds(final Specification<CategoryJPAEntity> where) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(String.class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        final var predicate = where == null ? null : where.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+
+        query.select(root.get("id"));
+
+        return this.entityManager.createQuery(query).getResultList();
+    }
+
+    // persist skips the SELECT that save() issues for entities with assigned ids, and flushing per batch
+    // lets Hibernate group the INSERTs into JDBC batches while keeping the persistence context small
+    @Override
+    public List<CategoryJPAEntity> persistAll(final List<CategoryJPAEntity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+
+            if ((i + 1) % this.batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return entities;
+    }
+
+    // Mirrors Category.activate/deactivate in a single UPDATE: deactivating keeps the original deleted_at
+    @Override
+    public int updateStatus(
+            final Specification<CategoryJPAEntity> where,
+            final boolean isActive,
+            final Instant now
+    ) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var update = builder.createCriteriaUpdate(CategoryJPAEntity.class);
+        final var root = update.from(CategoryJPAEntity.class);
+
+        final Path<Instant> deletedAt = root.get("deletedAt");
+
+        final Path<Long> version = root.get("version");
+
+        update.set(root.<Boolean>get("isActive"), isActive);
+        update.set(root.<Instant>get("updatedAt"), now);
+        update.set(deletedAt, isActive ? builder.nullLiteral(Instant.class) : builder.coalesce(deletedAt, now));
+        update.set(version, builder.sum(version, 1L));
+
+        // Our specifications only use the root and the builder, so they can be reused outside of a SELECT
+        final var predicate = where == null ? null : where.toPredicate(root, null, builder);
+
+        // Bulk statements don't apply the entity @Where
+        final var notRemoved = builder.isNull(root.get("removedAt"));
+
+        update.where(predicate == null ? notRemoved : builder.and(predicate, notRemoved));
+
+        this.entityManager.flush();
+
+        final var affected = this.entityManager.createQuery(update).executeUpdate();
+
+        // Managed entities still hold the previous status after a bulk UPDATE
+        this.entityManager.clear();
+
+        return affected;
+    }
+
+    // Only touches the row when one of the attributes differs, so an unchanged edit costs no write at all
+    @Override
+    public int patch(
+            final String id,
+            final Long expectedVersion,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant now
+    ) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var update = builder.createCriteriaUpdate(CategoryJPAEntity.class);
+        final var root = update.from(CategoryJPAEntity.class);
+
+        final Path<String> currentName = root.get("name");
+        final Path<String> currentDescription = root.get("description");
+        final Path<Boolean> currentIsActive = root.get("isActive");
+        final Path<Instant> deletedAt = root.get("deletedAt");
+        final Path<Long> version = root.get("version");
+
+        update.set(currentName, name);
+        update.set(currentDescription, description == null ? builder.nullLiteral(String.class) : builder.literal(description));
+        update.set(currentIsActive, isActive);
+        update.set(root.<Instant>get("updatedAt"), now);
+        update.set(deletedAt, isActive ? builder.nullLiteral(Instant.class) : builder.coalesce(deletedAt, now));
+        update.set(version, builder.sum(version, 1L));
+
+        final var descriptionChanged = description == null
+                ? builder.isNotNull(currentDescription)
+                : builder.or(builder.isNull(currentDescription), builder.notEqual(currentDescription, description));
+
+        final var changed = builder.or(
+                builder.notEqual(currentName, name),
+                descriptionChanged,
+                builder.notEqual(currentIsActive, isActive)
+        );
+
+        final var row = builder.and(builder.equal(root.get("id"), id), builder.isNull(root.get("removedAt")));
+
+        // Compare-and-set on the version gives lost update protection without holding row locks
+        update.where(expectedVersion == null
+                ? builder.and(row, changed)
+                : builder.and(row, builder.equal(version, expectedVersion), changed));
+
+        this.entityManager.flush();
+
+        final var affected = this.entityManager.createQuery(update).executeUpdate();
+
+        this.entityManager.clear();
+
+        return affected;
+    }
+
+    @Override
+    public int softDelete(final String id, final Instant now) {
+        final var builder = this.entityManager.getCriteriaBuilder();
+        final var update = builder.createCriteriaUpdate(CategoryJPAEntity.class);
+        final var root = update.from(CategoryJPAEntity.class);
+
+        // updated_at moves too, so the change feed reports the removal as a tombstone
+        update.set(root.<Instant>get("removedAt"), now);
+        update.set(root.<Instant>get("updatedAt"), now);
+        update.where(
+                builder.equal(root.get("id"), id),
+                builder.isNull(root.get("removedAt"))
+        );
+
+        this.entityManager.flush();
+
+        final var affected = this.entityManager.createQuery(update).executeUpdate();
+
+        this.entityManager.clear();
+
+        return affected;
+    }
+}
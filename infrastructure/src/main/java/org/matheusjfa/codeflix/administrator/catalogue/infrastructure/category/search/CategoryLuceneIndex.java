@@ -0,0 +1,340 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.validation.Error;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+public class CategoryLuceneIndex implements Closeable {
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.025;
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DELETED_AT = "deletedAt";
+    private static final String VERSION = "version";
+    private static final String SORT_SUFFIX = ".sort";
+
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    // Writes that happen while a rebuild streams the table are replayed on top of it, so older rows never win
+    private final Map<String, Optional<Category>> writtenDuringRebuild = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public CategoryLuceneIndex(final Path path) {
+        try {
+            this.analyzer = new StandardAnalyzer();
+            this.writer = new IndexWriter(FSDirectory.open(path), new IndexWriterConfig(this.analyzer));
+            this.searcherManager = new SearcherManager(this.writer, null);
+            this.reopenThread = new ControlledRealTimeReopenThread<>(
+                    this.writer,
+                    this.searcherManager,
+                    MAX_STALE_SECONDS,
+                    MIN_STALE_SECONDS
+            );
+            this.reopenThread.setName("category-index-refresh");
+            this.reopenThread.setDaemon(true);
+            this.reopenThread.start();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public void index(final Category category) {
+        final var id = category.getId().getValue();
+
+        withReadLock(() -> {
+            if (this.rebuilding) this.writtenDuringRebuild.put(id, Optional.of(category));
+            upsert(category);
+        });
+    }
+
+    public void delete(final CategoryID id) {
+        withReadLock(() -> {
+            if (this.rebuilding) this.writtenDuringRebuild.put(id.getValue(), Optional.empty());
+            remove(id.getValue());
+        });
+    }
+
+    public void rebuild(final Stream<Category> categories) {
+        this.ready = false;
+
+        withWriteLock(() -> {
+            this.rebuilding = true;
+            write(this.writer::deleteAll);
+        });
+
+        try {
+            categories
+                    .filter(category -> !this.writtenDuringRebuild.containsKey(category.getId().getValue()))
+                    .forEach(this::upsert);
+        } finally {
+            withWriteLock(() -> {
+                this.writtenDuringRebuild.forEach((id, category) -> category.ifPresentOrElse(
+                        this::upsert,
+                        () -> remove(id)
+                ));
+                this.writtenDuringRebuild.clear();
+                this.rebuilding = false;
+            });
+        }
+
+        write(this.writer::commit);
+        refresh();
+        this.ready = true;
+    }
+
+    public void refresh() {
+        try {
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Pagination<Category> search(final CategorySearchQuery query) {
+        final var luceneQuery = toQuery(query.terms());
+        final var sort = toSort(query.sort(), query.direction());
+        final var offset = (long) query.page() * query.perPage();
+
+        // Every hit up to the end of the page is collected, callers keep the page below the maximum offset. One
+        // extra hit answers hasNext when the total is not requested.
+        final var collected = Math.toIntExact(offset + query.perPage() + 1);
+        final var end = collected - 1;
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = this.searcherManager.acquire();
+
+            final var hits = searcher.search(luceneQuery, collected, sort);
+
+            final var items = new ArrayList<Category>();
+            for (int i = (int) offset; i < Math.min(hits.scoreDocs.length, end); i++) {
+                items.add(toCategory(searcher.doc(hits.scoreDocs[i].doc)));
+            }
+
+            if (!query.withTotal()) {
+                return Pagination.slice(query.page(), query.perPage(), items, hits.scoreDocs.length > end);
+            }
+
+            return new Pagination<>(query.page(), query.perPage(), searcher.count(luceneQuery), items);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reopenThread.close();
+        this.searcherManager.close();
+        this.writer.close();
+        this.analyzer.close();
+    }
+
+    private Query toQuery(final String terms) {
+        final var tokens = tokenize(terms);
+
+        if (tokens.isEmpty()) return new MatchNoDocsQuery();
+
+        // Every word must prefix a word of the name or of the description
+        final var query = new BooleanQuery.Builder();
+        for (final var token : tokens) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new PrefixQuery(new Term(NAME, token)), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, token)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+
+        return query.build();
+    }
+
+    private List<String> tokenize(final String terms) {
+        final var tokens = new ArrayList<String>();
+
+        try (final var stream = this.analyzer.tokenStream(NAME, terms)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) tokens.add(term.toString());
+            stream.end();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return tokens;
+    }
+
+    private static Sort toSort(final String sort, final String direction) {
+        final var reverse = "desc".equalsIgnoreCase(direction);
+
+        final var field = switch (sort) {
+            case NAME, DESCRIPTION -> new SortField(sort + SORT_SUFFIX, SortField.Type.STRING, reverse);
+            case CREATED_AT, UPDATED_AT -> new SortField(sort + SORT_SUFFIX, SortField.Type.LONG, reverse);
+            default -> throw DomainException.with(
+                    new Error("Category search does not support sorting by '%s'".formatted(sort))
+            );
+        };
+
+        return new Sort(field, new SortField(ID + SORT_SUFFIX, SortField.Type.STRING, reverse));
+    }
+
+    private static Document toDocument(final Category category) {
+        final var document = new Document();
+        final var id = category.getId().getValue();
+
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID + SORT_SUFFIX, new BytesRef(id)));
+
+        document.add(new TextField(NAME, category.getName(), Field.Store.YES));
+        document.add(new SortedDocValuesField(NAME + SORT_SUFFIX, new BytesRef(category.getName())));
+
+        if (category.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, category.getDescription(), Field.Store.YES));
+            document.add(new SortedDocValuesField(DESCRIPTION + SORT_SUFFIX, new BytesRef(category.getDescription())));
+        }
+
+        document.add(new StoredField(ACTIVE, category.isActive() ? 1 : 0));
+
+        document.add(new StoredField(CREATED_AT, category.getCreatedAt().toString()));
+        document.add(new NumericDocValuesField(CREATED_AT + SORT_SUFFIX, toMicros(category.getCreatedAt())));
+
+        document.add(new StoredField(UPDATED_AT, category.getUpdatedAt().toString()));
+        document.add(new NumericDocValuesField(UPDATED_AT + SORT_SUFFIX, toMicros(category.getUpdatedAt())));
+
+        if (category.getDeletedAt() != null) {
+            document.add(new StoredField(DELETED_AT, category.getDeletedAt().toString()));
+        }
+
+        document.add(new StoredField(VERSION, category.getVersion()));
+
+        return document;
+    }
+
+    private static Category toCategory(final Document document) {
+        final var deletedAt = document.get(DELETED_AT);
+        final var version = document.getField(VERSION);
+
+        return Category.with(
+                CategoryID.from(document.get(ID)),
+                document.get(NAME),
+                document.get(DESCRIPTION),
+                Objects.requireNonNull(document.getField(ACTIVE)).numericValue().intValue() == 1,
+                Instant.parse(document.get(CREATED_AT)),
+                Instant.parse(document.get(UPDATED_AT)),
+                deletedAt == null ? null : Instant.parse(deletedAt),
+                version == null ? 0L : version.numericValue().longValue()
+        );
+    }
+
+    private static long toMicros(final Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private void release(final IndexSearcher searcher) {
+        if (searcher == null) return;
+
+        try {
+            this.searcherManager.release(searcher);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void upsert(final Category category) {
+        write(() -> this.writer.updateDocument(new Term(ID, category.getId().getValue()), toDocument(category)));
+    }
+
+    private void remove(final String id) {
+        write(() -> this.writer.deleteDocuments(new Term(ID, id)));
+    }
+
+    private void withReadLock(final Runnable runnable) {
+        final var lock = this.rebuildLock.readLock();
+        lock.lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void withWriteLock(final Runnable runnable) {
+        final var lock = this.rebuildLock.writeLock();
+        lock.lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void write(final IndexOperation operation) {
+        try {
+            operation.run();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void run() throws IOException;
+    }
+}
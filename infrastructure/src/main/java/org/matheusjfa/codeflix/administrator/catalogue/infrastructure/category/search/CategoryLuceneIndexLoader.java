@@ -0,0 +1,93 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeListener;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+// Fills the index from the table at startup, then keeps it following the writes of every node through the
+// category_changes poller: changed rows are read again, and rows that are gone or soft deleted leave the index.
+// It runs before the cache, so a search page evicted for a change is never loaded again from the old documents.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "catalogue.category.search.lucene.enabled", havingValue = "true")
+public class CategoryLuceneIndexLoader implements CategoryChangeListener {
+    private final CategoryLuceneIndex index;
+    private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public CategoryLuceneIndexLoader(
+            final CategoryLuceneIndex index,
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.index = Objects.requireNonNull(index);
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final var thread = new Thread(this::rebuild, "category-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // A status update by terms on another node may have touched any row
+    @Override
+    public void changedAll() {
+        rebuild();
+    }
+
+    @Override
+    public void changed(final Collection<CategoryID> ids) {
+        final var values = ids.stream().map(CategoryID::getValue).toList();
+
+        final List<Category> found = this.transactionTemplate.execute(status -> this.repository.findAllById(values)
+                .stream()
+                .map(CategoryJPAEntity::toAggregate)
+                .toList());
+
+        final var indexed = new HashSet<CategoryID>();
+
+        for (final var category : Objects.requireNonNull(found)) {
+            this.index.index(category);
+            indexed.add(category.getId());
+        }
+
+        ids.stream().filter(id -> !indexed.contains(id)).forEach(this.index::delete);
+    }
+
+    // One rebuild at a time, the startup one and the ones asked for by the poller would clear each other's documents
+    public synchronized void rebuild() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            try (final var rows = this.repository.streamAll()) {
+                // Entities are detached as soon as they are mapped so the persistence context stays empty
+                this.index.rebuild(rows.map(entity -> {
+                    final var category = entity.toAggregate();
+                    this.entityManager.detach(entity);
+                    return category;
+                }));
+            }
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.ChangeFeed;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.CursorPagination;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryMySQLGateway;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class LuceneCategoryGateway implements CategoryGateway {
+    private static final int REINDEX_PAGE_SIZE = 500;
+
+    private final CategoryGateway delegate;
+    private final CategoryLuceneIndex index;
+    private final CategoryLuceneIndexLoader loader;
+    private final long maxOffset;
+
+    public LuceneCategoryGateway(
+            final CategoryGateway delegate,
+            final CategoryLuceneIndex index,
+            final CategoryLuceneIndexLoader loader,
+            final long maxOffset
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.index = Objects.requireNonNull(index);
+        this.loader = Objects.requireNonNull(loader);
+        this.maxOffset = maxOffset;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        this.index.index(created);
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.delegate.createAll(categories);
+        created.forEach(this.index::index);
+        return created;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var terms = query.terms();
+
+        // Until the startup rebuild finishes the index may be incomplete, so searches keep hitting the database
+        if (terms == null || terms.isBlank() || !this.index.isReady()) {
+            return this.delegate.findAll(query);
+        }
+
+        // The index collects every hit before the page, so deep pages are rejected the same as on the database
+        CategoryMySQLGateway.offsetOf(query, this.maxOffset);
+
+        return this.index.search(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    @Override
+    public ChangeFeed<CategoryFeedItem> findChangesSince(final CategoryChangesQuery query) {
+        return this.delegate.findChangesSince(query);
+    }
+
+    @Override
+    public long streamAll(final CategorySearchQuery query, final Consumer<Category> consumer) {
+        return this.delegate.streamAll(query, consumer);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        this.index.index(updated);
+        return updated;
+    }
+
+    @Override
+    public CategoryPatchResult patch(final CategoryPatch patch) {
+        final var result = this.delegate.patch(patch);
+
+        // Patches and status updates are single UPDATEs, so the index reads back the timestamps and version they stored
+        if (result == CategoryPatchResult.UPDATED) this.loader.changed(List.of(patch.id()));
+
+        return result;
+    }
+
+    @Override
+    public long updateStatusByIds(final List<CategoryID> ids, final boolean isActive) {
+        final var affected = this.delegate.updateStatusByIds(ids, isActive);
+        this.loader.changed(ids);
+        return affected;
+    }
+
+    @Override
+    public long updateStatusByTerms(final String terms, final boolean isActive) {
+        final var affected = this.delegate.updateStatusByTerms(terms, isActive);
+
+        // The database decides which rows matched, so the index is refreshed from them rather than from its own terms
+        String cursor = null;
+        do {
+            final var page = this.delegate.findAllAfter(
+                    new CategoryCursorQuery(REINDEX_PAGE_SIZE, cursor, terms, "name", "asc")
+            );
+            page.items().forEach(this.index::index);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        return affected;
+    }
+
+    @Override
+    public Category deleteById(final CategoryID id) {
+        final var deleted = this.delegate.deleteById(id);
+        this.index.delete(id);
+        return deleted;
+    }
+
+    @Override
+    public boolean softDeleteById(final CategoryID id) {
+        final var deleted = this.delegate.softDeleteById(id);
+        if (deleted) this.index.delete(id);
+        return deleted;
+    }
+}
@@ -0,0 +1,37 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+// Runs tasks on the preferred executor until fallBack() is called, then on the fallback one for good. Tasks already
+// running stay where they are, only new ones move.
+public class FallbackExecutor implements Executor, AutoCloseable {
+    private final ExecutorService preferred;
+    private final ExecutorService fallback;
+    private volatile boolean fallenBack;
+
+    public FallbackExecutor(final ExecutorService preferred, final ExecutorService fallback) {
+        this.preferred = Objects.requireNonNull(preferred);
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        (this.fallenBack ? this.fallback : this.preferred).execute(task);
+    }
+
+    public void fallBack() {
+        this.fallenBack = true;
+    }
+
+    public boolean isFallenBack() {
+        return this.fallenBack;
+    }
+
+    @Override
+    public void close() {
+        this.preferred.shutdown();
+        this.fallback.shutdown();
+    }
+}
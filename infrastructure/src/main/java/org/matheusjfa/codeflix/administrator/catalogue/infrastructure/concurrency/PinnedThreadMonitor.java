@@ -0,0 +1,72 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A virtual thread that blocks inside a synchronized block, which the MySQL driver and Hibernate still have plenty of,
+// pins its carrier thread and takes it away from every other virtual thread. The JVM reports each pin longer than the
+// threshold as a JFR event, they are counted here and, past fallbackAfter, onFallback is run once.
+public class PinnedThreadMonitor implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream stream;
+    private final AtomicLong pinned = new AtomicLong();
+    private final long fallbackAfter;
+    private final Runnable onFallback;
+
+    public PinnedThreadMonitor(final Duration threshold, final long fallbackAfter, final Runnable onFallback) {
+        this.fallbackAfter = fallbackAfter;
+        this.onFallback = Objects.requireNonNull(onFallback);
+
+        // The event doesn't exist before Java 21, enabling it there is a no-op
+        this.stream = new RecordingStream();
+        this.stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.stream.onEvent(PINNED_EVENT, this::pinned);
+        this.stream.startAsync();
+    }
+
+    public long pinnedCount() {
+        return this.pinned.get();
+    }
+
+    private void pinned(final RecordedEvent event) {
+        final var count = this.pinned.incrementAndGet();
+
+        // Only the first one is worth a stack, the same few locks pin over and over
+        if (count == 1) {
+            LOGGER.warn("Virtual thread pinned for {} at {}", event.getDuration(), pinnedAt(event));
+        }
+
+        if (this.fallbackAfter > 0 && count == this.fallbackAfter) {
+            LOGGER.warn("{} virtual thread pins, falling back to platform threads", count);
+            this.onFallback.run();
+        }
+    }
+
+    // The first frame outside the JDK is the code that held the monitor
+    private static String pinnedAt(final RecordedEvent event) {
+        final var stackTrace = event.getStackTrace();
+        if (stackTrace == null) return "an unknown frame";
+
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+                .findFirst()
+                .orElse("an unknown frame");
+    }
+
+    @Override
+    public void close() {
+        this.stream.close();
+    }
+}
@@ -0,0 +1,41 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// Virtual threads are final from Java 21 while the project still builds for 17, so they are looked up reflectively.
+// Before 21, or on 19 and 20 without --enable-preview, nothing is found and callers keep their platform threads.
+public final class VirtualThreads {
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return factory("virtual-probe-").isPresent();
+    }
+
+    public static Optional<ThreadFactory> factory(final String prefix) {
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var named = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(named));
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    // One new virtual thread per task, there is nothing to pool
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(final String prefix) {
+        return factory(prefix).map(factory -> {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, factory);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual threads are available but their executor is not", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache.CategoryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalogue.category.cache.enabled", havingValue = "true")
+public class CategoryCacheConfiguration {
+
+    @Bean
+    public CategoryCache categoryCache(
+            @Value("${catalogue.category.cache.maximum-size:10000}") final long maximumSize,
+            @Value("${catalogue.category.cache.ttl:PT10M}") final Duration ttl,
+            @Value("${catalogue.category.cache.pages.maximum-size:1000}") final long maximumPages,
+            @Value("${catalogue.category.cache.pages.ttl:PT1M}") final Duration pageTtl
+    ) {
+        return new CategoryCache(maximumSize, ttl, maximumPages, pageTtl);
+    }
+}
@@ -0,0 +1,11 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "catalogue.category.changes.enabled", havingValue = "true")
+public class CategoryChangesConfiguration {
+}
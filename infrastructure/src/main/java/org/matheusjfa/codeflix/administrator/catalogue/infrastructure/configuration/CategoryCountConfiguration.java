@@ -0,0 +1,98 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryCounter;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource.BoundedDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// Every list request that needs a total holds two connections while its COUNT runs here, so threads has to leave
+// room in the pool for the requests themselves. Past the queue, or when no connection is free, requests count on
+// their own thread instead.
+@Configuration
+@ConditionalOnProperty(name = "catalogue.category.list.count-mode", havingValue = "parallel")
+public class CategoryCountConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService categoryCountExecutor(
+            @Value("${catalogue.category.list.count.threads:4}") final int threads,
+            @Value("${catalogue.category.list.count.queue-capacity:64}") final int queueCapacity
+    ) {
+        final var created = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    final var thread = new Thread(task, "category-count-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    @Bean
+    public CategoryCounter categoryCounter(
+            final CategoryRepository repository,
+            @Qualifier("categoryCountExecutor") final ExecutorService executor,
+            final PlatformTransactionManager transactionManager,
+            final DataSource dataSource,
+            final ObjectProvider<HikariDataSource> pools,
+            @Value("${catalogue.category.list.count.timeout:PT10S}") final Duration timeout
+    ) {
+        return new CategoryCounter(
+                repository,
+                executor,
+                transactionManager,
+                connectionFree(dataSource, pools.orderedStream().toList()),
+                timeout
+        );
+    }
+
+    // Checked without waiting: a permit left in the bounded DataSource, and an idle connection or room for a new one
+    // in every pool, the replica's included when reads are routed to it
+    static BooleanSupplier connectionFree(final DataSource dataSource, final List<HikariDataSource> beans) {
+        final var pools = new ArrayList<>(beans);
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                final var pool = dataSource.unwrap(HikariDataSource.class);
+                if (pools.stream().noneMatch(bean -> bean == pool)) pools.add(pool);
+            }
+        } catch (final SQLException e) {
+            // Nothing to check but the beans
+        }
+
+        return () -> {
+            if (dataSource instanceof BoundedDataSource bounded && bounded.availablePermits() == 0) return false;
+
+            return pools.stream().allMatch(pool -> {
+                final var bean = pool.getHikariPoolMXBean();
+                return bean == null
+                        || bean.getIdleConnections() > 0
+                        || bean.getTotalConnections() < pool.getMaximumPoolSize();
+            });
+        };
+    }
+}
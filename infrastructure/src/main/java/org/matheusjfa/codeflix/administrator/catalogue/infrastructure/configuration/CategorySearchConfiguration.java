@@ -0,0 +1,23 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search.CategoryLuceneIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "catalogue.category.search.lucene.enabled", havingValue = "true")
+public class CategorySearchConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CategoryLuceneIndex categoryLuceneIndex(
+            @Value("${catalogue.category.search.lucene.path}") final String path
+    ) throws IOException {
+        return new CategoryLuceneIndex(Files.createDirectories(Path.of(path)));
+    }
+}
@@ -0,0 +1,29 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox.FileEventPublisher;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox.InMemoryEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "catalogue.outbox.enabled", havingValue = "true")
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "catalogue.outbox.publisher", havingValue = "file")
+    public FileEventPublisher fileEventPublisher(@Value("${catalogue.outbox.file.path}") final String path) {
+        return new FileEventPublisher(Path.of(path));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "catalogue.outbox.publisher", havingValue = "memory", matchIfMissing = true)
+    public InMemoryEventPublisher inMemoryEventPublisher() {
+        return new InMemoryEventPublisher();
+    }
+}
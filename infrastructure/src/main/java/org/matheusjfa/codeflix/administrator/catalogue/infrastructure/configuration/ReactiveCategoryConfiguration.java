@@ -0,0 +1,73 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.R2dbcCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.ZoneId;
+
+// Wired by hand rather than through the R2DBC auto-configuration: a reactive transaction manager bean would stop
+// Spring Boot from creating the JPA one the rest of the application runs on
+@Configuration
+@ConditionalOnProperty(name = "catalogue.category.reactive.enabled", havingValue = "true")
+public class ReactiveCategoryConfiguration {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool(
+            @Value("${catalogue.category.reactive.url}") final String url,
+            @Value("${catalogue.category.reactive.username:${spring.datasource.username}}") final String username,
+            @Value("${catalogue.category.reactive.password:${spring.datasource.password}}") final String password,
+            @Value("${catalogue.category.reactive.pool.max-size:20}") final int maxSize
+    ) {
+        final var options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        return new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                        .maxSize(maxSize)
+                        .initialSize(Math.min(maxSize, 10))
+                        .build()
+        );
+    }
+
+    @Bean
+    public ReactiveCategoryGateway reactiveCategoryGateway(
+            final ConnectionPool reactiveConnectionPool,
+            final ObjectProvider<CategoryChangeListener> listeners,
+            @Value("${catalogue.category.reactive.time-zone:UTC}") final ZoneId zone,
+            @Value("${catalogue.category.pagination.max-offset:10000}") final long maxOffset,
+            @Value("${catalogue.category.search.full-text:false}") final boolean fullText,
+            @Value("${catalogue.category.changes.enabled:false}") final boolean logChanges,
+            @Value("${catalogue.outbox.enabled:false}") final boolean outbox,
+            @Value("${catalogue.category.delete.soft:false}") final boolean softDelete
+    ) {
+        final var transactions = TransactionalOperator.create(new R2dbcTransactionManager(reactiveConnectionPool));
+
+        return new R2dbcCategoryGateway(
+                DatabaseClient.create(reactiveConnectionPool),
+                transactions,
+                zone,
+                maxOffset,
+                fullText,
+                logChanges,
+                outbox,
+                softDelete,
+                listeners.orderedStream().toList()
+        );
+    }
+}
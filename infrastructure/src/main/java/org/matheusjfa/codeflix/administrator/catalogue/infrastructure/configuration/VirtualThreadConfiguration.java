@@ -0,0 +1,91 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency.FallbackExecutor;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency.PinnedThreadMonitor;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency.VirtualThreads;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource.BoundedDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Servlet requests, and the use cases they call, run on a new virtual thread each instead of the fixed Undertow
+// worker pool. On a JVM without virtual threads the configuration is skipped and the worker pool stays in place.
+@Configuration
+@ConditionalOnProperty(name = "catalogue.threads.virtual.enabled", havingValue = "true")
+@Conditional(VirtualThreadConfiguration.VirtualThreadsSupported.class)
+public class VirtualThreadConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public FallbackExecutor requestExecutor(@Value("${server.undertow.threads.workers:64}") final int workers) {
+        return new FallbackExecutor(
+                VirtualThreads.newThreadPerTaskExecutor("request-").orElseThrow(),
+                Executors.newFixedThreadPool(workers)
+        );
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadDispatch(
+            final FallbackExecutor requestExecutor
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment.setExecutor(requestExecutor));
+    }
+
+    @Bean(destroyMethod = "close")
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            final FallbackExecutor requestExecutor,
+            @Value("${catalogue.threads.virtual.pinning.threshold:PT20MS}") final Duration threshold,
+            @Value("${catalogue.threads.virtual.pinning.fallback-after:0}") final long fallbackAfter
+    ) {
+        return new PinnedThreadMonitor(threshold, fallbackAfter, requestExecutor::fallBack);
+    }
+
+    // Static, so the DataSource is wrapped without initializing this configuration early
+    @Bean
+    public static BeanPostProcessor boundedDataSource(
+            @Value("${catalogue.threads.virtual.datasource.max-connections:0}") final int maxConnections,
+            @Value("${catalogue.threads.virtual.datasource.timeout:PT30S}") final Duration timeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !"dataSource".equals(beanName)) return bean;
+
+                return new BoundedDataSource(dataSource, maxConnections(dataSource, maxConnections), timeout);
+            }
+        };
+    }
+
+    // Defaults to the pool size, so a request that got a permit never waits in the pool as well
+    private static int maxConnections(final DataSource dataSource, final int configured) {
+        if (configured > 0) return configured;
+
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : 10;
+        } catch (final SQLException e) {
+            return 10;
+        }
+    }
+
+    static class VirtualThreadsSupported implements Condition {
+        @Override
+        public boolean matches(final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+            return VirtualThreads.isSupported();
+        }
+    }
+}
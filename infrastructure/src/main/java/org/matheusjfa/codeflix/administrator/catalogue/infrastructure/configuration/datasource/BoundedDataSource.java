@@ -0,0 +1,98 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// With virtual threads thousands of requests can ask for a connection at once. They wait here, in arrival order and
+// without holding a carrier thread, instead of in the pool, whose connection-timeout is tuned for a few dozen
+// workers and would fail most of them. A permit is held from getConnection until the connection is closed.
+public class BoundedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public BoundedDataSource(final DataSource target, final int maxConnections, final Duration timeout) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+
+        try {
+            return bounded(super.getConnection());
+        } catch (final SQLException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+
+        try {
+            return bounded(super.getConnection(username, password));
+        } catch (final SQLException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!this.permits.tryAcquire(this.timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No connection available within %s, %d callers waiting"
+                                .formatted(Duration.ofNanos(this.timeoutNanos), this.permits.getQueueLength())
+                );
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    // Closing twice must not hand back two permits
+    private Connection bounded(final Connection connection) {
+        final var closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, arguments) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) this.permits.release();
+                        }
+                        return null;
+                    }
+
+                    if ("isClosed".equals(method.getName()) && closed.get()) return true;
+
+                    try {
+                        return method.invoke(connection, arguments);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+        );
+    }
+}
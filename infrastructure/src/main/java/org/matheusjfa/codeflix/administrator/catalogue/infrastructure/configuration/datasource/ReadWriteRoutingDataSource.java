@@ -0,0 +1,111 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+// Sends read-only transactions to the replica and everything else to the primary. It must sit behind a
+// LazyConnectionDataSourceProxy, otherwise the connection is fetched before the transaction is marked read-only.
+// After a read-write transaction commits, the client that made it keeps reading from the primary for a while, so it
+// never misses its own changes because of replication lag, while everybody else's reads stay on the replica.
+// Requests carry the time of their client's last write, see ReadYourWritesFilter. Work outside a request is a
+// client of its own, one per thread.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public static final long NEVER = Long.MIN_VALUE;
+
+    // Set while running work whose writes readers never see, e.g. the outbox relay
+    private static final ThreadLocal<Boolean> UNTRACKED = new ThreadLocal<>();
+
+    private static final ThreadLocal<Client> CLIENT = ThreadLocal.withInitial(() -> new Client(NEVER, written -> {
+    }, null));
+
+    private final long stickinessMillis;
+
+    public ReadWriteRoutingDataSource(final Duration stickiness) {
+        this.stickinessMillis = stickiness.toMillis();
+    }
+
+    public static <T> T untracked(final Supplier<T> work) {
+        final var previous = UNTRACKED.get();
+        UNTRACKED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) UNTRACKED.remove();
+        }
+    }
+
+    // Runs this thread as the client whose last write was at the given epoch millisecond until the client is closed.
+    // onWrite is told the time of every write the client commits meanwhile.
+    public static Client client(final long lastWrite, final LongConsumer onWrite) {
+        final var client = new Client(lastWrite, onWrite, CLIENT.get());
+        CLIENT.set(client);
+        return client;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return Route.PRIMARY;
+        }
+
+        return wroteRecently() ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    // Connections outside a transaction only read or write bookkeeping tables, and a transaction that rolls back
+    // leaves nothing to replicate. Replication lag starts when the transaction commits.
+    private void trackWrite() {
+        if (UNTRACKED.get() != null) return;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        final var client = CLIENT.get();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                client.written(System.currentTimeMillis());
+            }
+        });
+    }
+
+    // Both ways, since the time may come from another node's clock, and a time in the future must not pin a client
+    // to the primary
+    private boolean wroteRecently() {
+        final var last = CLIENT.get().lastWrite;
+        return last != NEVER && Math.abs(System.currentTimeMillis() - last) < this.stickinessMillis;
+    }
+
+    public static final class Client implements AutoCloseable {
+        private final LongConsumer onWrite;
+        private final Client previous;
+        private long lastWrite;
+
+        private Client(final long lastWrite, final LongConsumer onWrite, final Client previous) {
+            this.lastWrite = lastWrite;
+            this.onWrite = onWrite;
+            this.previous = previous;
+        }
+
+        private void written(final long at) {
+            this.lastWrite = at;
+            this.onWrite.accept(at);
+        }
+
+        @Override
+        public void close() {
+            if (this.previous == null) CLIENT.remove();
+            else CLIENT.set(this.previous);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.function.LongConsumer;
+
+// A request that writes answers with the time its write committed, and the client echoes it on the next requests,
+// whichever node they land on. Those keep reading from the primary until the replica has caught up.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final LongConsumer onWrite = written -> {
+            if (!response.isCommitted()) response.setHeader(LAST_WRITE_HEADER, Long.toString(written));
+        };
+
+        try (final var ignored = ReadWriteRoutingDataSource.client(lastWrite(request), onWrite)) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static long lastWrite(final HttpServletRequest request) {
+        final var header = request.getHeader(LAST_WRITE_HEADER);
+        if (header == null || header.isBlank()) return ReadWriteRoutingDataSource.NEVER;
+
+        try {
+            return Long.parseLong(header.trim());
+        } catch (final NumberFormatException e) {
+            return ReadWriteRoutingDataSource.NEVER;
+        }
+    }
+}
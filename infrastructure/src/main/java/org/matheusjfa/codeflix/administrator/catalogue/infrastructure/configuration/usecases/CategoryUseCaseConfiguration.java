@@ -1,16 +1,38 @@
 package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.usecases;
 
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoriesUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.DefaultCreateCategoriesUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.DefaultCreateCategoryUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DefaultDeleteCategoryUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.SoftDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.export.DefaultExportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.export.ExportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.imports.DefaultImportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.imports.ImportCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.changes.ListCategoryChangesUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultListCategoriesByCursorUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.DefaultUpdateCategoryUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status.DefaultUpdateCategoriesStatusUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.status.UpdateCategoriesStatusUseCase;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.ProjectedListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache.CachingCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache.CategoryCache;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search.CategoryLuceneIndex;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search.CategoryLuceneIndexLoader;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search.LuceneCategoryGateway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,8 +40,33 @@ import org.springframework.context.annotation.Configuration;
 public class CategoryUseCaseConfiguration {
     private final CategoryGateway gateway;
 
-    public CategoryUseCaseConfiguration(final CategoryGateway gateway) {
-        this.gateway = gateway;
+    public CategoryUseCaseConfiguration(
+            final CategoryGateway gateway,
+            final ObjectProvider<CategoryLuceneIndex> luceneIndex,
+            final ObjectProvider<CategoryLuceneIndexLoader> luceneIndexLoader,
+            final ObjectProvider<CategoryCache> cache,
+            @Value("${catalogue.category.pagination.max-offset:10000}") final long maxOffset
+    ) {
+        this.gateway = decorate(
+                gateway,
+                luceneIndex.getIfAvailable(),
+                luceneIndexLoader.getIfAvailable(),
+                cache.getIfAvailable(),
+                maxOffset
+        );
+    }
+
+    private static CategoryGateway decorate(
+            final CategoryGateway gateway,
+            final CategoryLuceneIndex luceneIndex,
+            final CategoryLuceneIndexLoader luceneIndexLoader,
+            final CategoryCache cache,
+            final long maxOffset
+    ) {
+        final var searchable = luceneIndex == null
+                ? gateway
+                : new LuceneCategoryGateway(gateway, luceneIndex, luceneIndexLoader, maxOffset);
+        return cache == null ? searchable : new CachingCategoryGateway(searchable, cache);
     }
 
     @Bean
@@ -27,19 +74,69 @@ public class CategoryUseCaseConfiguration {
         return new DefaultCreateCategoryUseCase(gateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(gateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(gateway);
     }
 
     @Bean
-    public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(gateway);
+    public UpdateCategoriesStatusUseCase updateCategoriesStatusUseCase() {
+        return new DefaultUpdateCategoriesStatusUseCase(gateway);
+    }
+
+    @Bean
+    public DeleteCategoryUseCase deleteCategoryUseCase(
+            @Value("${catalogue.category.delete.soft:false}") final boolean softDelete
+    ) {
+        return softDelete
+                ? new SoftDeleteCategoryUseCase(gateway)
+                : new DefaultDeleteCategoryUseCase(gateway);
+    }
+
+    @Bean
+    public ListCategoriesUseCase listCategoryUseCase(
+            final CategoryRepository repository,
+            final ObjectProvider<CategoryLuceneIndex> luceneIndex,
+            @Value("${catalogue.category.list.projection:false}") final boolean projection,
+            @Value("${catalogue.category.pagination.max-offset:10000}") final long maxOffset,
+            @Value("${catalogue.category.search.full-text:false}") final boolean fullText
+    ) {
+        final var useCase = new DefaultListCategoriesUseCase(gateway);
+
+        // The Lucene index already answers lists without touching the database
+        return projection && luceneIndex.getIfAvailable() == null
+                ? new ProjectedListCategoriesUseCase(repository, useCase, maxOffset, fullText)
+                : useCase;
+    }
+
+    @Bean
+    public ListCategoriesByCursorUseCase listCategoriesByCursorUseCase() {
+        return new DefaultListCategoriesByCursorUseCase(gateway);
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return new DefaultListCategoryChangesUseCase(gateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(gateway);
     }
 
     @Bean
-    public ListCategoriesUseCase listCategoryUseCase() {
-        return new DefaultListCategoriesUseCase(gateway);
+    public ImportCategoriesUseCase importCategoriesUseCase(
+            @Value("${catalogue.category.import.chunk-size:500}") final int chunkSize,
+            @Value("${catalogue.category.import.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") final int parallelism,
+            @Value("${catalogue.category.import.queue-capacity:4}") final int queueCapacity,
+            @Value("${catalogue.category.import.max-reported-errors:1000}") final int maxReportedErrors
+    ) {
+        return new DefaultImportCategoriesUseCase(gateway, chunkSize, parallelism, queueCapacity, maxReportedErrors);
     }
 
     @Bean
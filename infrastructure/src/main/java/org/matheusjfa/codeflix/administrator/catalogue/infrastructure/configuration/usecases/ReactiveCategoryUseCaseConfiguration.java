@@ -0,0 +1,51 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.usecases;
+
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.DefaultReactiveCreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.ReactiveCreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DefaultReactiveDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.ReactiveDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.DefaultReactiveUpdateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.ReactiveUpdateCategoryUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalogue.category.reactive.enabled", havingValue = "true")
+public class ReactiveCategoryUseCaseConfiguration {
+    private final ReactiveCategoryGateway gateway;
+
+    public ReactiveCategoryUseCaseConfiguration(final ReactiveCategoryGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Bean
+    public ReactiveCreateCategoryUseCase reactiveCreateCategoryUseCase() {
+        return new DefaultReactiveCreateCategoryUseCase(gateway);
+    }
+
+    @Bean
+    public ReactiveUpdateCategoryUseCase reactiveUpdateCategoryUseCase() {
+        return new DefaultReactiveUpdateCategoryUseCase(gateway);
+    }
+
+    @Bean
+    public ReactiveDeleteCategoryUseCase reactiveDeleteCategoryUseCase() {
+        return new DefaultReactiveDeleteCategoryUseCase(gateway);
+    }
+
+    @Bean
+    public ReactiveListCategoriesUseCase reactiveListCategoriesUseCase() {
+        return new DefaultReactiveListCategoriesUseCase(gateway);
+    }
+
+    @Bean
+    public ReactiveGetCategoryByIdUseCase reactiveGetCategoryByIdUseCase() {
+        return new DefaultReactiveGetCategoryByIdUseCase(gateway);
+    }
+}
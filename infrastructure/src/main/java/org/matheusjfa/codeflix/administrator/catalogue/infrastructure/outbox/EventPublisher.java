@@ -0,0 +1,7 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface EventPublisher {
+    CompletableFuture<Void> publish(OutboxEvent event);
+}
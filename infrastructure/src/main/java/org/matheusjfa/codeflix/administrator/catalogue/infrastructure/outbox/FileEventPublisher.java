@@ -0,0 +1,51 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+
+// Appends one JSON document per line, a local stand-in for a message broker
+public class FileEventPublisher implements EventPublisher, AutoCloseable {
+    private final BufferedWriter writer;
+
+    public FileEventPublisher(final Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            this.writer = Files.newBufferedWriter(
+                    file,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> publish(final OutboxEvent event) {
+        try {
+            this.writer.write("{\"sequence\":%d,\"type\":\"%s\",\"aggregateId\":\"%s\",\"occurredOn\":\"%s\"}".formatted(
+                    event.sequence(),
+                    event.type(),
+                    event.aggregateId(),
+                    event.occurredOn()
+            ));
+            this.writer.newLine();
+            this.writer.flush();
+            return CompletableFuture.completedFuture(null);
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.writer.close();
+    }
+}
@@ -0,0 +1,19 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryEventPublisher implements EventPublisher {
+    private final List<OutboxEvent> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public CompletableFuture<Void> publish(final OutboxEvent event) {
+        this.published.add(event);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<OutboxEvent> getPublished() {
+        return List.copyOf(this.published);
+    }
+}
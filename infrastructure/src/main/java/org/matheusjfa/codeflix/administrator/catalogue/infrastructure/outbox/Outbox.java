@@ -0,0 +1,95 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import org.matheusjfa.codeflix.administrator.catalogue.domain.events.DomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// Events are written through the connection of the surrounding transaction, so they are stored if and only if
+// the change they describe commits. Delivery happens later, in OutboxRelay.
+@Component
+public class Outbox {
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public Outbox(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${catalogue.outbox.enabled:false}") final boolean enabled
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void append(final Collection<? extends DomainEvent> events) {
+        if (!this.enabled || events.isEmpty()) return;
+
+        final var rows = events.stream()
+                .map(event -> new Object[]{
+                        event.getClass().getSimpleName(),
+                        event.aggregateId(),
+                        Timestamp.from(event.occurredOn())
+                })
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox (event_type, aggregate_id, occurred_on) VALUES (?, ?, ?)",
+                rows
+        );
+    }
+
+    public List<OutboxEvent> next(final int limit) {
+        return this.jdbcTemplate.query(
+                "SELECT sequence, event_type, aggregate_id, occurred_on FROM outbox ORDER BY sequence LIMIT ?",
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("sequence"),
+                        rs.getString("event_type"),
+                        rs.getString("aggregate_id"),
+                        rs.getTimestamp("occurred_on").toInstant()
+                ),
+                limit
+        );
+    }
+
+    // Only the holder of the lease relays, so every node can run a relay without sending each event once per node.
+    // A holder that stops renewing loses the lease once it expires.
+    public boolean lease(final String owner, final Duration duration) {
+        final var now = Instant.now();
+        return this.jdbcTemplate.update(
+                "UPDATE outbox_relay_lease SET owner = ?, expires_at = ? "
+                        + "WHERE name = 'outbox' AND (owner = ? OR owner IS NULL OR expires_at < ?)",
+                owner,
+                Timestamp.from(now.plus(duration)),
+                owner,
+                Timestamp.from(now)
+        ) == 1;
+    }
+
+    public void release(final String owner) {
+        this.jdbcTemplate.update(
+                "UPDATE outbox_relay_lease SET owner = NULL, expires_at = NULL WHERE name = 'outbox' AND owner = ?",
+                owner
+        );
+    }
+
+    public int remove(final List<Long> sequences) {
+        if (sequences.isEmpty()) return 0;
+
+        final var placeholders = String.join(", ", Collections.nCopies(sequences.size(), "?"));
+        return this.jdbcTemplate.update(
+                "DELETE FROM outbox WHERE sequence IN (" + placeholders + ")",
+                sequences.toArray()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import java.time.Instant;
+
+public record OutboxEvent(long sequence, String type, String aggregateId, Instant occurredOn) {
+}
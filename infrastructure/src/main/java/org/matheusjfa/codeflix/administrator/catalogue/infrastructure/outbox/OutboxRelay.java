@@ -0,0 +1,118 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+// Drains the outbox in batches. Up to max-in-flight sends are outstanding at once, and only the events whose send
+// succeeded are removed, so delivery is at least once: a failed or interrupted batch is sent again on the next run
+// and consumers have to tolerate duplicates. Order is only kept while sends succeed.
+// Every node runs a relay, but only the one holding the outbox lease drains, renewing it before each batch.
+@Component
+@ConditionalOnProperty(name = "catalogue.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+    private final Outbox outbox;
+    private final EventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Semaphore inFlight;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OutboxRelay(
+            final Outbox outbox,
+            final EventPublisher publisher,
+            final PlatformTransactionManager transactionManager,
+            @Value("${catalogue.outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${catalogue.outbox.relay.max-in-flight:64}") final int maxInFlight,
+            @Value("${catalogue.outbox.relay.lease:PT30S}") final Duration lease
+    ) {
+        this.outbox = Objects.requireNonNull(outbox);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.lease = Objects.requireNonNull(lease);
+    }
+
+    @Scheduled(fixedDelayString = "${catalogue.outbox.relay.interval:PT1S}")
+    public void relay() {
+        drain();
+    }
+
+    public synchronized long drain() {
+        var relayed = 0L;
+
+        while (true) {
+            if (!holdLease()) return relayed;
+
+            final var batch = this.outbox.next(this.batchSize);
+            if (batch.isEmpty()) return relayed;
+
+            final var sent = send(batch);
+            // Removing relayed events changes nothing readers see, so reads don't have to follow it to the primary
+            ReadWriteRoutingDataSource.untracked(() -> this.transactionTemplate.execute(status -> this.outbox.remove(sent)));
+            relayed += sent.size();
+
+            if (sent.size() < batch.size() || batch.size() < this.batchSize) return relayed;
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        ReadWriteRoutingDataSource.untracked(() -> this.transactionTemplate.execute(status -> {
+            this.outbox.release(this.owner);
+            return null;
+        }));
+    }
+
+    private boolean holdLease() {
+        return Boolean.TRUE.equals(ReadWriteRoutingDataSource.untracked(
+                () -> this.transactionTemplate.execute(status -> this.outbox.lease(this.owner, this.lease))
+        ));
+    }
+
+    private List<Long> send(final List<OutboxEvent> batch) {
+        final var sends = new ArrayList<CompletableFuture<Long>>(batch.size());
+
+        for (final var event : batch) {
+            try {
+                this.inFlight.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            sends.add(publish(event).handle((ignored, error) -> {
+                this.inFlight.release();
+                return error == null ? event.sequence() : null;
+            }));
+        }
+
+        return sends.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CompletableFuture<Void> publish(final OutboxEvent event) {
+        try {
+            return this.publisher.publish(event);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
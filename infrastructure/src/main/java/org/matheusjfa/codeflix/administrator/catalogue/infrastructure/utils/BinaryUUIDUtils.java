@@ -0,0 +1,32 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class BinaryUUIDUtils {
+    private static final Pattern CANONICAL_UUID =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private BinaryUUIDUtils() {
+    }
+
+    public static byte[] toBytes(final String value) {
+        // Values that are not UUIDs can still be looked up, they just never match a stored 16 byte key
+        if (!CANONICAL_UUID.matcher(value).matches()) return value.getBytes(StandardCharsets.UTF_8);
+
+        final var uuid = UUID.fromString(value);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        if (bytes.length != 16) return new String(bytes, StandardCharsets.UTF_8);
+
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
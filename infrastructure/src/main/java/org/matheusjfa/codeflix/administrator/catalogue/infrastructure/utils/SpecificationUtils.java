@@ -2,6 +2,9 @@ package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Path;
+import java.util.Collection;
+
 public final class SpecificationUtils {
     private SpecificationUtils() {
     }
@@ -10,6 +13,35 @@ public final class SpecificationUtils {
         return (root, query, criteriaBuilder) -> criteriaBuilder.like(criteriaBuilder.upper(root.get(attribute)), like(value.toUpperCase()));
     }
 
+    public static <T> Specification<T> in(String attribute, Collection<?> values) {
+        return (root, query, criteriaBuilder) -> root.get(attribute).in(values);
+    }
+
+    // Row value comparison (attribute, tieBreaker) > (value, tieBreakerValue) expanded into OR/AND,
+    // so it can be served by a composite index on (attribute, tieBreaker)
+    public static <T, V extends Comparable<? super V>> Specification<T> seek(
+            final String attribute,
+            final V value,
+            final String tieBreaker,
+            final String tieBreakerValue,
+            final boolean descending
+    ) {
+        return (root, query, criteriaBuilder) -> {
+            final Path<V> column = root.get(attribute);
+            final Path<String> tieBreakerColumn = root.get(tieBreaker);
+
+            final var beyond = descending
+                    ? criteriaBuilder.lessThan(column, value)
+                    : criteriaBuilder.greaterThan(column, value);
+
+            final var tie = descending
+                    ? criteriaBuilder.lessThan(tieBreakerColumn, tieBreakerValue)
+                    : criteriaBuilder.greaterThan(tieBreakerColumn, tieBreakerValue);
+
+            return criteriaBuilder.or(beyond, criteriaBuilder.and(criteriaBuilder.equal(column, value), tie));
+        };
+    }
+
     private static String like(String value) {
         return "%" + value + "%";
     }
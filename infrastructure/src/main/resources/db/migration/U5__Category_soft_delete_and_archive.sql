@@ -0,0 +1,3 @@
+DROP TABLE category_archive;
+DROP INDEX idx_category_removed_at_id ON Category;
+ALTER TABLE Category DROP COLUMN removed_at;
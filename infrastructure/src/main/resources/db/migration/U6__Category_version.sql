@@ -0,0 +1 @@
+ALTER TABLE Category DROP COLUMN version;
@@ -0,0 +1,6 @@
+CREATE TABLE category_tombstones (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    deleted_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_category_tombstones_deleted_at_id ON category_tombstones (deleted_at, id);
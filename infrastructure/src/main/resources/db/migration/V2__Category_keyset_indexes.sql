@@ -0,0 +1,3 @@
+CREATE INDEX idx_category_name_id ON Category (name, id);
+CREATE INDEX idx_category_created_at_id ON Category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON Category (updated_at, id);
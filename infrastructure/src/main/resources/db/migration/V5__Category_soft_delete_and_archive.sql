@@ -0,0 +1,15 @@
+ALTER TABLE Category ADD COLUMN removed_at DATETIME(6) DEFAULT NULL;
+
+CREATE INDEX idx_category_removed_at_id ON Category (removed_at, id);
+
+CREATE TABLE category_archive (
+    id BINARY(16) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    is_active BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) DEFAULT NULL,
+    removed_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1 @@
+ALTER TABLE Category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
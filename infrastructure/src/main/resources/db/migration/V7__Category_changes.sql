@@ -0,0 +1,7 @@
+CREATE TABLE category_changes (
+    sequence BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    category_id BINARY(16) DEFAULT NULL,
+    changed_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_category_changes_changed_at ON category_changes (changed_at);
@@ -0,0 +1,6 @@
+CREATE TABLE outbox (
+    sequence BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(64) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    occurred_on DATETIME(6) NOT NULL
+);
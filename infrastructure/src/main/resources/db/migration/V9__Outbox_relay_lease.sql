@@ -0,0 +1,7 @@
+CREATE TABLE outbox_relay_lease (
+    name VARCHAR(32) NOT NULL PRIMARY KEY,
+    owner VARCHAR(64) DEFAULT NULL,
+    expires_at DATETIME(6) DEFAULT NULL
+);
+
+INSERT INTO outbox_relay_lease (name, owner, expires_at) VALUES ('outbox', NULL, NULL);
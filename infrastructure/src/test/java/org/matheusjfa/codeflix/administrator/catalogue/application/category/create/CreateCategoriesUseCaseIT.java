@@ -0,0 +1,79 @@
+package org.matheusjfa.codeflix.administrator.catalogue.application.category.create;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.IntegrationTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+
+@IntegrationTest
+public class CreateCategoriesUseCaseIT {
+
+    @Autowired
+    private CreateCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @SpyBean
+    private CategoryGateway gateway;
+
+    @Test
+    public void givenTenThousandCategories_whenCallsCreateCategories_thenShouldCreateTheValidOnes() {
+        // Arrange
+        final var expectedTotal = 10_000;
+        final var expectedInvalid = 10;
+
+        final var items = new ArrayList<CreateCategoryCommand>(expectedTotal);
+        for (int i = 0; i < expectedTotal; i++) {
+            final var name = i % 1_000 == 0 ? null : "Category " + i;
+            items.add(CreateCategoryCommand.with(name, "Category " + i + " description", true));
+        }
+
+        // Act
+        Assertions.assertEquals(0, repository.count());
+
+        final var output = useCase.execute(CreateCategoriesCommand.with(items));
+
+        // Assert
+        Assertions.assertEquals(expectedTotal - expectedInvalid, output.created().size());
+        Assertions.assertEquals(expectedInvalid, output.errors().size());
+        Assertions.assertTrue(output.errors().containsKey(0));
+        Assertions.assertTrue(output.errors().containsKey(9_000));
+
+        Assertions.assertEquals(expectedTotal - expectedInvalid, repository.count());
+
+        Mockito.verify(gateway, Mockito.times(1)).createAll(Mockito.any());
+        Mockito.verify(gateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenValidCategories_whenGatewayThrowsAnException_thenShouldCreateNothing() {
+        // Arrange
+        final var expectedErrorMessage = "An error occurred while creating the categories";
+
+        final var items = new ArrayList<CreateCategoryCommand>();
+        for (int i = 0; i < 3; i++) {
+            items.add(CreateCategoryCommand.with("Category " + i, null, true));
+        }
+
+        Mockito.doThrow(new RuntimeException(expectedErrorMessage))
+                .when(gateway)
+                .createAll(Mockito.any());
+
+        // Act
+        final var output = useCase.execute(CreateCategoriesCommand.with(items));
+
+        // Assert
+        Assertions.assertTrue(output.created().isEmpty());
+        Assertions.assertEquals(3, output.errors().size());
+        Assertions.assertEquals(expectedErrorMessage, output.errors().get(0).getErrors().get(0).message());
+
+        Assertions.assertEquals(0, repository.count());
+    }
+}
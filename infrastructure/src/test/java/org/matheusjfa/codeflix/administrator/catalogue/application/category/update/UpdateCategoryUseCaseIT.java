@@ -169,9 +169,9 @@ public class UpdateCategoryUseCaseIT {
 
         Mockito.doThrow(DomainException.with(new Error(expectedErrorMessage)))
                 .when(gateway)
-                .findById(Mockito.any());
+                .patch(Mockito.any());
 
-        final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command).getLeft());
+        final var exception = Assertions.assertDoesNotThrow(() -> useCase.execute(command).getLeft());
 
         // Assert
         Assertions.assertNotNull(exception);
@@ -0,0 +1,123 @@
+package org.matheusjfa.codeflix.administrator.catalogue.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.JdbcCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.WebserverConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs the same reads through the JPA gateway and the plain JDBC gateway against a MySQL database and reports the
+ * throughput of each one: findAll pages of 100 rows, with and without the total, and findById on random known ids.
+ * Each run is warmed up first, so the JIT and the prepared statement caches are settled before the measurement.
+ *
+ * The schema is migrated by Flyway, so point it at a scratch database.
+ *
+ * gradle :infrastructure:benchmark -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/codeflix_bench -Dbenchmark.rows=100000
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@ActiveProfiles("test")
+@SpringBootTest(classes = WebserverConfiguration.class)
+public class CategoryGatewayReadBenchmark {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int PER_PAGE = Integer.getInteger("benchmark.per-page", 100);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 2_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10_000);
+
+    @Autowired
+    private CategoryMySQLGateway jpaGateway;
+
+    @Autowired
+    private JdbcCategoryGateway jdbcGateway;
+
+    @DynamicPropertySource
+    static void mysql(final DynamicPropertyRegistry registry) {
+        final var url = System.getProperty("benchmark.mysql.url");
+        final var separator = url.contains("?") ? "&" : "?";
+
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.datasource.url", () -> url + separator
+                + "useCursorFetch=true&rewriteBatchedStatements=true&cachePrepStmts=true&prepStmtCacheSize=250");
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.mysql.user", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.mysql.password", ""));
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("catalogue.category.jdbc.enabled", () -> "true");
+        registry.add("catalogue.category.pagination.max-offset", () -> String.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void compareJpaAndJdbcReads() {
+        final var ids = seed();
+        final var pages = Math.max(1, ROWS / PER_PAGE);
+
+        final IntConsumer jpaPage = i -> this.jpaGateway.findAll(page(i % pages));
+        final IntConsumer jdbcPage = i -> this.jdbcGateway.findAll(page(i % pages));
+        final IntConsumer jpaSlice = i -> this.jpaGateway.findAll(page(i % pages).withoutTotal());
+        final IntConsumer jdbcSlice = i -> this.jdbcGateway.findAll(page(i % pages).withoutTotal());
+        final IntConsumer jpaById = i -> this.jpaGateway.findById(ids.get(i % ids.size()));
+        final IntConsumer jdbcById = i -> this.jdbcGateway.findById(ids.get(i % ids.size()));
+
+        run("jpa  findAll (with total)", jpaPage);
+        run("jdbc findAll (with total)", jdbcPage);
+        run("jpa  findAll (slice)", jpaSlice);
+        run("jdbc findAll (slice)", jdbcSlice);
+        run("jpa  findById", jpaById);
+        run("jdbc findById", jdbcById);
+    }
+
+    private List<CategoryID> seed() {
+        final var ids = new ArrayList<CategoryID>();
+        this.jdbcGateway.streamAll(new CategorySearchQuery(0, 0, "", "name", "asc"), category -> ids.add(category.getId()));
+
+        final var batch = new ArrayList<Category>();
+
+        for (int row = ids.size() + 1; row <= ROWS; row++) {
+            batch.add(Category.create("Category " + row, "Category " + row + " Description", row % 3 != 0));
+
+            if (batch.size() == 5_000 || row == ROWS) {
+                this.jpaGateway.createAll(batch).forEach(category -> ids.add(category.getId()));
+                batch.clear();
+            }
+        }
+
+        return ids;
+    }
+
+    private static CategorySearchQuery page(final int page) {
+        return new CategorySearchQuery(page, PER_PAGE, "", "name", "asc");
+    }
+
+    private static void run(final String name, final IntConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) operation.accept(i);
+
+        final var start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) operation.accept(i);
+
+        final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf(
+                "%-28s %,d calls in %.2fs (%,.0f ops/s, %.3f ms/op)%n",
+                name,
+                ITERATIONS,
+                seconds,
+                ITERATIONS / seconds,
+                seconds * 1_000 / ITERATIONS
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package org.matheusjfa.codeflix.administrator.catalogue.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Inserts the same number of categories into a VARCHAR(36) keyed table, a BINARY(16) keyed table with random
+ * UUIDs and a BINARY(16) keyed table with time ordered (v7) UUIDs, then reports the insert throughput and the InnoDB data and index sizes of each one.
+ *
+ * gradle :infrastructure:benchmark -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/codeflix -Dbenchmark.rows=2000000
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+public class CategoryIdStorageBenchmark {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 5_000);
+
+    @Test
+    public void compareVarcharAndBinaryPrimaryKeys() throws SQLException {
+        try (final var connection = connect()) {
+            run(connection, "bench_category_varchar", "VARCHAR(36)", false, () -> UUID.randomUUID().toString());
+            run(connection, "bench_category_binary", "BINARY(16)", true, () -> UUID.randomUUID().toString());
+            run(connection, "bench_category_binary_v7", "BINARY(16)", true, () -> CategoryID.generate().getValue());
+        }
+    }
+
+    static Connection connect() throws SQLException {
+        final var url = System.getProperty("benchmark.mysql.url");
+        final var separator = url.contains("?") ? "&" : "?";
+
+        return DriverManager.getConnection(
+                url + separator + "rewriteBatchedStatements=true",
+                System.getProperty("benchmark.mysql.user", "root"),
+                System.getProperty("benchmark.mysql.password", "")
+        );
+    }
+
+    static void run(
+            final Connection connection,
+            final String table,
+            final String idType,
+            final boolean binary,
+            final Supplier<String> ids
+    ) throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("""
+                    CREATE TABLE %s (
+                        id %s PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(4000),
+                        is_active BOOLEAN NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6) NOT NULL,
+                        deleted_at DATETIME(6),
+                        INDEX idx_%s_name_id (name, id)
+                    )""".formatted(table, idType, table));
+        }
+
+        connection.setAutoCommit(false);
+
+        final var start = System.nanoTime();
+
+        try (final var insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, name, description, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)"
+        )) {
+            for (int row = 1; row <= ROWS; row++) {
+                final var id = ids.get();
+                final var now = Timestamp.from(Instant.now());
+
+                if (binary) insert.setBytes(1, BinaryUUIDUtils.toBytes(id));
+                else insert.setString(1, id);
+
+                insert.setString(2, "Category " + row);
+                insert.setString(3, "Category " + row + " Description");
+                insert.setBoolean(4, true);
+                insert.setTimestamp(5, now);
+                insert.setTimestamp(6, now);
+                insert.addBatch();
+
+                if (row % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+
+            insert.executeBatch();
+            connection.commit();
+        }
+
+        final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        connection.setAutoCommit(true);
+
+        try (final var statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+
+            try (final var sizes = statement.executeQuery("""
+                    SELECT data_length, index_length FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = '%s'""".formatted(table))) {
+                sizes.next();
+
+                System.out.printf(
+                        "%-28s %,d rows in %.1fs (%,.0f rows/s), data %,d MiB, secondary indexes %,d MiB%n",
+                        table,
+                        ROWS,
+                        seconds,
+                        ROWS / seconds,
+                        sizes.getLong(1) / (1024 * 1024),
+                        sizes.getLong(2) / (1024 * 1024)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.matheusjfa.codeflix.administrator.catalogue.benchmark;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency.VirtualThreads;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.WebserverConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts the server once with the fixed pool of Undertow workers and once with catalogue.threads.virtual.enabled, and
+ * runs the same closed loop of HTTP clients against each, every client sending its next request once the previous one
+ * answered. Reports throughput and p99 latency, measured by the client, so the time a request spends queued in
+ * Undertow is part of it. Nine in ten requests read a category by id, the rest read a page of 20.
+ *
+ * Each mode runs with its own configuration: the platform run has no bounded DataSource, so requests that wait longer
+ * than the pool's connection-timeout fail and are counted, and the virtual run goes through the deployment executor,
+ * the pinning fallback and the bounded DataSource as in production.
+ *
+ * The tree has no web endpoints, so the benchmark routes two GETs to the use cases itself.
+ *
+ * Needs Java 21 and a scratch MySQL database, which Flyway migrates.
+ *
+ * gradle :infrastructure:benchmark -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/codeflix_bench -Dbenchmark.clients=1000,10000
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+public class VirtualThreadBenchmark {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int WORKERS = Integer.getInteger("benchmark.workers", 64);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests-per-client", 20);
+    private static final String CLIENTS = System.getProperty("benchmark.clients", "1000,10000");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMinutes(1))
+            .build();
+
+    @Test
+    public void comparePlatformAndVirtualThreads() {
+        Assumptions.assumeTrue(VirtualThreads.isSupported(), "Virtual threads need Java 21");
+
+        List<CategoryID> ids = null;
+
+        for (final var virtual : new boolean[]{false, true}) {
+            try (final var context = start(virtual)) {
+                if (ids == null) {
+                    ids = seed(context.getBean(CategoryMySQLGateway.class));
+                }
+
+                final var base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                final var mode = virtual ? "virtual" : "platform (%d workers)".formatted(WORKERS);
+                final var categories = ids;
+
+                for (final var clients : Arrays.stream(CLIENTS.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray()) {
+                    // The first run of each mode only warms up the JIT, the pool and the statement caches
+                    run(base, categories, Math.min(clients, 1_000));
+                    report(mode, clients, run(base, categories, clients));
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(final boolean virtual) {
+        final var url = System.getProperty("benchmark.mysql.url");
+        final var separator = url.contains("?") ? "&" : "?";
+        final ApplicationContextInitializer<GenericApplicationContext> routes =
+                context -> context.registerBean("benchmarkRoutes", RouterFunction.class, () -> routes(context));
+
+        return new SpringApplicationBuilder(WebserverConfiguration.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("test")
+                .initializers(routes)
+                .properties(
+                        "server.port=0",
+                        "server.undertow.threads.workers=" + WORKERS,
+                        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                        "spring.datasource.url=" + url + separator + "cachePrepStmts=true&prepStmtCacheSize=250",
+                        "spring.datasource.username=" + System.getProperty("benchmark.mysql.user", "root"),
+                        "spring.datasource.password=" + System.getProperty("benchmark.mysql.password", ""),
+                        "spring.datasource.hikari.maximum-pool-size=" + System.getProperty("benchmark.pool-size", "20"),
+                        "spring.jpa.show-sql=false",
+                        "catalogue.threads.virtual.enabled=" + virtual,
+                        "catalogue.threads.virtual.datasource.timeout=PT10M"
+                )
+                .run();
+    }
+
+    private static RouterFunction<ServerResponse> routes(final GenericApplicationContext context) {
+        final var getCategoryByIdUseCase = context.getBean(GetCategoryByIdUseCase.class);
+        final var listCategoriesUseCase = context.getBean(ListCategoriesUseCase.class);
+
+        return RouterFunctions.route()
+                .GET("/categories/{id}", request -> ServerResponse.ok().body(
+                        getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(request.pathVariable("id"))).name()
+                ))
+                .GET("/categories", request -> {
+                    final var page = Integer.parseInt(request.param("page").orElse("0"));
+                    final var query = new CategorySearchQuery(page, 20, "", "name", "asc");
+                    final var output = listCategoriesUseCase.execute(ListCategoriesCommand.with(query));
+                    return ServerResponse.ok().body(String.valueOf(output.items().size()));
+                })
+                .build();
+    }
+
+    private static List<CategoryID> seed(final CategoryMySQLGateway gateway) {
+        final var ids = new ArrayList<CategoryID>();
+        final var batch = new ArrayList<Category>();
+
+        for (int row = 1; row <= ROWS; row++) {
+            batch.add(Category.create("Category " + row, "Category " + row + " Description", true));
+
+            if (batch.size() == 5_000 || row == ROWS) {
+                gateway.createAll(batch).forEach(category -> ids.add(category.getId()));
+                batch.clear();
+            }
+        }
+
+        return ids;
+    }
+
+    // Every client is a virtual thread blocked on its own request, so the client side never runs out of threads
+    private Result run(final String base, final List<CategoryID> ids, final int clients) {
+        final var latencies = new long[clients * REQUESTS_PER_CLIENT];
+        final var completed = new AtomicInteger();
+        final var failures = new AtomicLong();
+
+        final var start = System.nanoTime();
+
+        final var executor = VirtualThreads.newThreadPerTaskExecutor("benchmark-client-").orElseThrow();
+
+        for (int client = 0; client < clients; client++) {
+            executor.execute(() -> {
+                for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                    final var sent = System.nanoTime();
+
+                    if (!send(base, ids)) {
+                        failures.incrementAndGet();
+                    }
+
+                    latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Arrays.sort(latencies);
+
+        return new Result(
+                latencies.length / seconds,
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000.0,
+                failures.get()
+        );
+    }
+
+    private boolean send(final String base, final List<CategoryID> ids) {
+        final var random = ThreadLocalRandom.current();
+        final var path = random.nextInt(10) == 0
+                ? "/categories?page=" + random.nextInt(Math.max(1, ROWS / 20))
+                : "/categories/" + ids.get(random.nextInt(ids.size())).getValue();
+
+        try {
+            final var response = this.client.send(
+                    HttpRequest.newBuilder(URI.create(base + path)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            return response.statusCode() == 200;
+        } catch (final IOException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void report(final String mode, final int clients, final Result result) {
+        System.out.printf(
+                "%-22s %,7d clients: %,10.0f req/s, p99 %8.2f ms, %,d failed%n",
+                mode,
+                clients,
+                result.throughput(),
+                result.p99Millis(),
+                result.failures()
+        );
+    }
+
+    private record Result(double throughput, double p99Millis, long failures) {
+    }
+}
@@ -0,0 +1,704 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryFeedItem;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// The reads every CategoryGateway has to serve the same way, run against each implementation by its subclass
+@TestPropertySource(properties = "catalogue.category.feed.lag=PT0S")
+public abstract class AbstractCategoryGatewayTest {
+
+    @Autowired
+    protected CategoryRepository repository;
+
+    protected abstract CategoryGateway gateway();
+
+    // FindById
+    @Test
+    public void givenAPersistentCategory_whenCallsFindById_shouldReturnTheCategory() {
+        // Arrange
+        final var expectedName = "Category";
+        final var expectedDescription = "Category Description";
+        final var expectedIsActive = true;
+
+        final var category = Category.create(expectedName, expectedDescription, expectedIsActive);
+
+        // Act
+        Assertions.assertEquals(0, repository.count());
+
+        gateway().create(category);
+
+        Assertions.assertEquals(1, repository.count());
+
+        final var result = gateway().findById(category.getId()).get();
+
+        // Assert
+        Assertions.assertNotNull(result);
+
+        Assertions.assertEquals(category.getId(), result.getId());
+        Assertions.assertEquals(category.getName(), result.getName());
+        Assertions.assertEquals(category.getDescription(), result.getDescription());
+        Assertions.assertEquals(category.isActive(), result.isActive());
+
+        // The columns keep microseconds, a gateway reading them back may have dropped the rest
+        Assertions.assertEquals(micros(category.getCreatedAt()), micros(result.getCreatedAt()));
+        Assertions.assertEquals(micros(category.getUpdatedAt()), micros(result.getUpdatedAt()));
+        Assertions.assertEquals(micros(category.getDeletedAt()), micros(result.getDeletedAt()));
+    }
+
+    // FindById
+    @Test
+    public void givenAnInvalidID_whenCallsFindById_shouldReturnEmptySet() {
+        // Arrange
+        final var invalidCategoryID = CategoryID.from("Invalid_id");
+
+        final var result = gateway().findById(invalidCategoryID);
+
+        // Assert
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    // FindAll
+    @Test
+    public void givenAPersistentCategory_whenCallsFindAll_shouldReturnAllCategories() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 3;
+
+        final var expectedFirstItemName = "Animes";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+
+        // First item
+        final var firstItem = results.items().get(0);
+
+        Assertions.assertNotNull(firstItem);
+        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+    }
+
+    @Test
+    public void givenAPersistentCategory_whenCallsFindAllFiltering_shouldReturnSomeCategories() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 3;
+
+        final var expectedFirstItemName = "Movies";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+    }
+
+    // FindAll
+    @Test
+    public void givenAEmptySet_whenCallsFindAll_shouldReturnAnEmptySet() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 0;
+
+        Assertions.assertEquals(0, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+
+        Assertions.assertNotNull(results);
+        Assertions.assertEquals(0, results.items().size());
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+    }
+
+    // FindAll
+    @Test
+    public void givenAPageGreaterThanTheTotal_whenCallsFindAll_shouldReturnAnEmptySet() {
+        // Arrange
+        final var expectedPage = 3;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 0;
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(3, 3, "", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+    }
+
+    // FindAll
+    @Test
+    public void givenATermToSearch_whenCallsFindAll_shouldReturnTheCorrectItems() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 1;
+        final var expectedItemsCount = 1;
+
+        final var expectedFirstItemName = "Documentary";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(0, 3, "Doc", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+
+        // First item
+        final var firstItem = results.items().get(0);
+
+        Assertions.assertNotNull(firstItem);
+        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenAnInvalidTermToSearch_whenCallsFindAll_shouldReturnAnEmptySet() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 0;
+        final var expectedItemsCount = 0;
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(0, 3, "Invalid", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+    }
+
+    // FindAll
+    @Test
+    public void givenAQueryToSortByName_whenCallsFindAll_shouldReturnTheCorrectOrder() {
+        // Arrange
+        final var expectedPage = 0;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 3;
+
+        final var expectedFirstItemName = "Animes";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+
+        // First item
+        final var firstItem = results.items().get(0);
+
+        Assertions.assertNotNull(firstItem);
+        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenAQueryToSortByDescription_whenCallsFindAll_shouldReturnTheCorrectOrder() {
+        // Arrange
+        final var expectedPage = 1;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 3;
+
+        final var expectedFirstItemName = "Most Watched";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(1, 3, "", "description", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+
+        // First item
+        final var firstItem = results.items().get(0);
+
+        Assertions.assertNotNull(firstItem);
+        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenADifferentPage_whenCallsFindAll_shouldReturnTheCorrectPage() {
+        // Arrange
+        final var expectedPage = 1;
+        final var expectedPerPage = 3;
+        final var expectedTotal = 7;
+        final var expectedItemsCount = 3;
+
+        final var expectedFirstItemName = "Most Watched";
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var query = new CategorySearchQuery(1, 3, "", "name", "asc");
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertNotNull(results);
+
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+
+        // First item
+        final var firstItem = results.items().get(0);
+
+        Assertions.assertNotNull(firstItem);
+        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenAPageBeyondTheMaximumOffset_whenCallsFindAll_shouldThrowAnError() {
+        // Arrange
+        final var expectedErrorMessage = "Page 10001 is beyond the maximum offset of 10000, use cursor pagination instead";
+
+        // Act
+        final var query = new CategorySearchQuery(10001, 1, "", "name", "asc");
+        final var exception = Assertions.assertThrows(DomainException.class, () -> gateway().findAll(query));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    // FindAll
+    @Test
+    public void givenAQueryWithoutTotal_whenCallsFindAll_shouldReturnASliceWithNextPage() {
+        // Arrange
+        final var expectedPage = 1;
+        final var expectedPerPage = 3;
+        final var expectedItemsCount = 3;
+        final var expectedFirstItemName = "Most Watched";
+
+        this.createCategories();
+
+        // Act
+        final var query = new CategorySearchQuery(1, 3, "", "name", "asc").withoutTotal();
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertEquals(expectedPage, results.currentPage());
+        Assertions.assertEquals(expectedPerPage, results.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, results.total());
+        Assertions.assertFalse(results.hasTotal());
+        Assertions.assertTrue(results.hasNext());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        Assertions.assertEquals(expectedFirstItemName, results.items().get(0).getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenTheLastPageWithoutTotal_whenCallsFindAll_shouldReturnASliceWithoutNextPage() {
+        // Arrange
+        final var expectedItemsCount = 1;
+        final var expectedFirstItemName = "Top 10";
+
+        this.createCategories();
+
+        // Act
+        final var query = new CategorySearchQuery(2, 3, "", "name", "asc").withoutTotal();
+        final var results = gateway().findAll(query);
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, results.total());
+        Assertions.assertFalse(results.hasNext());
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        Assertions.assertEquals(expectedFirstItemName, results.items().get(0).getName());
+    }
+
+    // FindAll
+    @Test
+    public void givenAQueryWithTotal_whenCallsFindAll_shouldComputeNextPageFromTotal() {
+        // Arrange
+        this.createCategories();
+
+        // Act
+        final var firstPage = gateway().findAll(new CategorySearchQuery(1, 3, "", "name", "asc"));
+        final var lastPage = gateway().findAll(new CategorySearchQuery(2, 3, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(7, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertFalse(lastPage.hasNext());
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenAPersistentCategory_whenCallsFindAllAfterFollowingTheCursors_shouldReturnAllCategoriesInOrder() {
+        // Arrange
+        final var expectedNames = List.of("Animes", "Cartoon", "Documentary", "Most Watched", "Movies", "Series", "Top 10");
+
+        Assertions.assertEquals(0, repository.count());
+
+        this.createCategories();
+
+        Assertions.assertEquals(7, repository.count());
+
+        // Act
+        final var names = new ArrayList<String>();
+        var query = new CategoryCursorQuery(3, null, "", "name", "asc");
+        var pages = 0;
+
+        while (true) {
+            final var results = gateway().findAllAfter(query);
+            results.items().forEach(category -> names.add(category.getName()));
+            pages++;
+
+            if (!results.hasNext()) break;
+
+            query = new CategoryCursorQuery(3, results.nextCursor(), "", "name", "asc");
+        }
+
+        // Assert
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(expectedNames, names);
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenADescendingCursorQuery_whenCallsFindAllAfter_shouldReturnTheNextPage() {
+        // Arrange
+        final var expectedFirstPage = List.of("Top 10", "Series");
+        final var expectedSecondPage = List.of("Movies", "Most Watched");
+
+        this.createCategories();
+
+        // Act
+        final var firstPage = gateway().findAllAfter(new CategoryCursorQuery(2, null, "", "name", "desc"));
+        final var secondPage = gateway().findAllAfter(new CategoryCursorQuery(2, firstPage.nextCursor(), "", "name", "desc"));
+
+        // Assert
+        Assertions.assertEquals(expectedFirstPage, firstPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(expectedSecondPage, secondPage.items().stream().map(Category::getName).toList());
+        Assertions.assertTrue(secondPage.hasNext());
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenATermToSearch_whenCallsFindAllAfter_shouldReturnTheLastPageWithoutCursor() {
+        // Arrange
+        final var expectedItemsCount = 1;
+        final var expectedFirstItemName = "Documentary";
+
+        this.createCategories();
+
+        // Act
+        final var results = gateway().findAllAfter(new CategoryCursorQuery(3, null, "Doc", "createdAt", "asc"));
+
+        // Assert
+        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        Assertions.assertEquals(expectedFirstItemName, results.items().get(0).getName());
+        Assertions.assertFalse(results.hasNext());
+        Assertions.assertNull(results.nextCursor());
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAllAfter_shouldThrowAnError() {
+        // Arrange
+        final var expectedErrorMessage = "Cursor pagination does not support sorting by 'description'";
+
+        // Act
+        final var query = new CategoryCursorQuery(3, null, "", "description", "asc");
+        final var exception = Assertions.assertThrows(DomainException.class, () -> gateway().findAllAfter(query));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAllAfter_shouldThrowAnError() {
+        // Arrange
+        final var expectedErrorMessage = "Cursor 'invalid' is invalid";
+
+        // Act
+        final var query = new CategoryCursorQuery(3, "invalid", "", "name", "asc");
+        final var exception = Assertions.assertThrows(DomainException.class, () -> gateway().findAllAfter(query));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    // FindAllAfter
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAllAfter_shouldThrowAnError() {
+        // Arrange
+        final var expectedErrorMessage = "Cursor was created sorting by 'name' and cannot be used to sort by 'createdAt'";
+
+        this.createCategories();
+
+        final var cursor = gateway().findAllAfter(new CategoryCursorQuery(2, null, "", "name", "asc")).nextCursor();
+
+        // Act
+        final var query = new CategoryCursorQuery(2, cursor, "", "createdAt", "asc");
+        final var exception = Assertions.assertThrows(DomainException.class, () -> gateway().findAllAfter(query));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    // FindChangesSince
+    @Test
+    public void givenChangedCategories_whenCallsFindChangesSince_shouldWalkThemInBatchesByUpdatedAt() {
+        // Arrange
+        final var base = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MICROS);
+        final var names = List.of("Movies", "Series", "Documentary", "Animes", "Cartoon");
+
+        for (int i = 0; i < names.size(); i++) {
+            final var updatedAt = base.plusSeconds(i);
+            final var category = Category.with(CategoryID.generate(), names.get(i), null, true, base, updatedAt, null);
+            this.repository.saveAndFlush(CategoryJPAEntity.from(category));
+        }
+
+        // Act
+        final var first = gateway().findChangesSince(new CategoryChangesQuery(null, 2));
+        final var second = gateway().findChangesSince(new CategoryChangesQuery(first.watermark(), 2));
+        final var third = gateway().findChangesSince(new CategoryChangesQuery(second.watermark(), 2));
+        final var caughtUp = gateway().findChangesSince(new CategoryChangesQuery(third.watermark(), 2));
+
+        // Assert
+        final var walked = new ArrayList<String>();
+        List.of(first, second, third).forEach(feed -> feed.items().forEach(item -> walked.add(item.category().getName())));
+
+        Assertions.assertEquals(names, walked);
+        Assertions.assertTrue(first.hasMore());
+        Assertions.assertTrue(second.hasMore());
+        Assertions.assertFalse(third.hasMore());
+        Assertions.assertTrue(caughtUp.items().isEmpty());
+        Assertions.assertEquals(third.watermark(), caughtUp.watermark());
+    }
+
+    // FindChangesSince
+    @Test
+    public void givenASoftDeletedCategory_whenCallsFindChangesSince_shouldReturnATombstone() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies Category", true);
+        this.repository.saveAndFlush(CategoryJPAEntity.from(category));
+
+        final var watermark = gateway().findChangesSince(new CategoryChangesQuery(null, 10)).watermark();
+
+        Assertions.assertTrue(gateway().softDeleteById(category.getId()));
+
+        // Act
+        final var feed = gateway().findChangesSince(new CategoryChangesQuery(watermark, 10));
+
+        // Assert
+        Assertions.assertEquals(1, feed.items().size());
+
+        final CategoryFeedItem tombstone = feed.items().get(0);
+        Assertions.assertTrue(tombstone.isTombstone());
+        Assertions.assertEquals(category.getId(), tombstone.id());
+    }
+
+    // FindChangesSince
+    @Test
+    public void givenAHardDeletedCategory_whenCallsFindChangesSince_shouldReturnATombstoneInOrder() {
+        // Arrange
+        final var base = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MICROS);
+        final var movies = Category.with(CategoryID.generate(), "Movies", null, true, base, base, null);
+        final var series = Category.with(CategoryID.generate(), "Series", null, true, base, base.plusSeconds(1), null);
+
+        this.repository.saveAndFlush(CategoryJPAEntity.from(movies));
+        this.repository.saveAndFlush(CategoryJPAEntity.from(series));
+
+        gateway().deleteById(movies.getId());
+
+        // Act
+        final var first = gateway().findChangesSince(new CategoryChangesQuery(null, 1));
+        final var second = gateway().findChangesSince(new CategoryChangesQuery(first.watermark(), 1));
+        final var caughtUp = gateway().findChangesSince(new CategoryChangesQuery(second.watermark(), 1));
+
+        // Assert
+        Assertions.assertEquals(series.getId(), first.items().get(0).id());
+        Assertions.assertFalse(first.items().get(0).isTombstone());
+        Assertions.assertTrue(first.hasMore());
+
+        final CategoryFeedItem tombstone = second.items().get(0);
+        Assertions.assertTrue(tombstone.isTombstone());
+        Assertions.assertEquals(movies.getId(), tombstone.id());
+        Assertions.assertFalse(second.hasMore());
+
+        Assertions.assertTrue(caughtUp.items().isEmpty());
+    }
+
+    // FindChangesSince
+    @Test
+    public void givenAnInvalidWatermark_whenCallsFindChangesSince_shouldThrowAnError() {
+        // Arrange
+        final var expectedErrorMessage = "Watermark 'invalid' is invalid";
+
+        // Act
+        final var query = new CategoryChangesQuery("invalid", 10);
+        final var exception = Assertions.assertThrows(DomainException.class, () -> gateway().findChangesSince(query));
+
+        // Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    // StreamAll
+    @Test
+    public void givenMatchingCategories_whenCallsStreamAll_shouldHandEveryRowToTheConsumerInOrder() {
+        // Arrange
+        createCategories();
+
+        final var expectedNames = List.of("Animes", "Cartoon", "Documentary", "Most Watched", "Movies", "Series", "Top 10");
+        final var streamed = new ArrayList<String>();
+
+        // Act
+        final var count = gateway().streamAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc"),
+                category -> streamed.add(category.getName())
+        );
+
+        // Assert
+        Assertions.assertEquals(expectedNames.size(), count);
+        Assertions.assertEquals(expectedNames, streamed);
+    }
+
+    // StreamAll
+    @Test
+    public void givenTerms_whenCallsStreamAll_shouldOnlyHandOverTheMatchingRows() {
+        // Arrange
+        createCategories();
+
+        final var streamed = new ArrayList<String>();
+
+        // Act
+        final var count = gateway().streamAll(
+                new CategorySearchQuery(0, 10, "mo", "name", "desc"),
+                category -> streamed.add(category.getName())
+        );
+
+        // Assert
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(List.of("Movies", "Most Watched"), streamed);
+    }
+
+    protected void createCategories() {
+        final var categories = List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", "Documentary Category", true),
+                Category.create("Animes", "Anime Category ", true),
+                Category.create("Cartoon", "Cartoons Category", false),
+                Category.create("Most Watched", "Most Watched Category", true),
+                Category.create("Top 10", "Top 10 Category", true)
+        );
+
+        // Flushed, since plain JDBC reads don't trigger Hibernate's auto flush
+        this.repository.saveAllAndFlush(categories
+                .stream()
+                .map(CategoryJPAEntity::from)
+                .toList()
+        );
+    }
+
+    private static Instant micros(final Instant instant) {
+        return instant == null ? null : instant.truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,310 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeLog;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox.Outbox;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+// Not transactional: the parallel COUNT runs on another connection and has to see the rows the test stored
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryCountModeTest {
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolExecutor countExecutor;
+
+    @BeforeEach
+    void setUp() {
+        this.countExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+
+        this.repository.saveAllAndFlush(List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", null, true),
+                Category.create("Animes", "Anime Category", true),
+                Category.create("Cartoon", "Cartoons Category", false),
+                Category.create("Most Watched", "Most Watched Category", true),
+                Category.create("Top 10", "Top 10 Category", true)
+        ).stream().map(CategoryJPAEntity::from).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.countExecutor.shutdownNow();
+        this.repository.deleteAll();
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a query, when counting in parallel or in a window, should return the same page as counting after it
+     * 2. Given a failing COUNT, when counting in parallel, should fail the call
+     * 3. Given a failing page, when counting in parallel, should cancel the COUNT
+     * 4. Given a saturated count executor, when counting in parallel, should count on the calling thread
+     * 5. Given no free connection, when counting in parallel, should count on the calling thread without submitting
+     * 6. Given a COUNT that could not get a connection, when counting in parallel, should count on the calling thread
+     * 7. Given a query, when counting in parallel, should count in a read-only transaction
+     */
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 3, '', name, asc",
+            "1, 3, '', name, desc",
+            "2, 3, '', name, asc",
+            "5, 3, '', name, asc",
+            "0, 10, category, description, asc",
+            "0, 2, MOVIES, name, asc",
+            "0, 3, invalid, name, asc",
+            "1, 2, '', description, desc",
+    })
+    public void givenAQuery_whenCountingInParallelOrInAWindow_shouldReturnTheSamePage(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        // Arrange
+        final var query = new CategorySearchQuery(page, perPage, terms, sort, direction);
+        final var expected = gateway(CategoryMySQLGateway.CountMode.SEQUENTIAL, null).findAll(query);
+
+        // Act
+        final var parallel = gateway(CategoryMySQLGateway.CountMode.PARALLEL, this.countExecutor).findAll(query);
+        final var window = gateway(CategoryMySQLGateway.CountMode.WINDOW, null).findAll(query);
+
+        // Assert
+        Assertions.assertEquals(expected.map(CategoryCountModeTest::fields), parallel.map(CategoryCountModeTest::fields));
+        Assertions.assertEquals(expected.map(CategoryCountModeTest::fields), window.map(CategoryCountModeTest::fields));
+    }
+
+    @Test
+    public void givenAFailingCount_whenCountingInParallel_shouldFailTheCall() {
+        // Arrange
+        final var executor = executorRunning(() -> {
+            throw new IllegalStateException("Count failed");
+        }, new ArrayList<>());
+
+        final var gateway = gateway(CategoryMySQLGateway.CountMode.PARALLEL, executor);
+
+        try {
+            // Act
+            final var exception = Assertions.assertThrows(
+                    IllegalStateException.class,
+                    () -> gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"))
+            );
+
+            // Assert
+            Assertions.assertEquals("Count failed", exception.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenAFailingPage_whenCountingInParallel_shouldCancelTheCount() {
+        // Arrange
+        final var neverReleased = new CountDownLatch(1);
+        final var counts = new ArrayList<RunnableFuture<?>>();
+
+        final var executor = executorRunning(() -> {
+            neverReleased.await();
+            return 0L;
+        }, counts);
+
+        final var gateway = gateway(CategoryMySQLGateway.CountMode.PARALLEL, executor);
+
+        try {
+            // Act
+            Assertions.assertThrows(
+                    RuntimeException.class,
+                    () -> gateway.findAll(new CategorySearchQuery(0, 3, "", "unknown", "asc"))
+            );
+
+            // Assert
+            Assertions.assertEquals(1, counts.size());
+            Assertions.assertTrue(counts.get(0).isCancelled());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenASaturatedCountExecutor_whenCountingInParallel_shouldCountOnTheCallingThread() {
+        // Arrange
+        this.countExecutor.shutdown();
+
+        // Act
+        final var page = gateway(CategoryMySQLGateway.CountMode.PARALLEL, this.countExecutor)
+                .findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(7, page.total());
+        Assertions.assertEquals(3, page.items().size());
+    }
+
+    @Test
+    public void givenNoFreeConnection_whenCountingInParallel_shouldCountOnTheCallingThread() {
+        // Arrange
+        final var counts = new ArrayList<RunnableFuture<?>>();
+        final var executor = executorRunning(() -> 0L, counts);
+
+        final var gateway = parallelGateway(counter(executor, this.transactionManager, () -> false));
+
+        try {
+            // Act
+            final var page = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+
+            // Assert
+            Assertions.assertTrue(counts.isEmpty());
+            Assertions.assertEquals(7, page.total());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenACountWithoutAConnection_whenCountingInParallel_shouldCountOnTheCallingThread() {
+        // Arrange
+        final var executor = executorRunning(() -> {
+            throw new CannotCreateTransactionException("Connection is not available");
+        }, new ArrayList<>());
+
+        final var gateway = gateway(CategoryMySQLGateway.CountMode.PARALLEL, executor);
+
+        try {
+            // Act
+            final var page = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+
+            // Assert
+            Assertions.assertEquals(7, page.total());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenAQuery_whenCountingInParallel_shouldCountInAReadOnlyTransaction() {
+        // Arrange
+        final var readOnly = new ArrayList<Boolean>();
+        final var transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(final TransactionDefinition definition) {
+                readOnly.add(definition != null && definition.isReadOnly());
+                return CategoryCountModeTest.this.transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(final TransactionStatus status) {
+                CategoryCountModeTest.this.transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(final TransactionStatus status) {
+                CategoryCountModeTest.this.transactionManager.rollback(status);
+            }
+        };
+
+        final var gateway = parallelGateway(counter(this.countExecutor, transactionManager, () -> true));
+
+        // Act
+        final var page = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(7, page.total());
+        Assertions.assertEquals(List.of(true), readOnly);
+    }
+
+    private CategoryMySQLGateway gateway(final CategoryMySQLGateway.CountMode countMode, final ExecutorService executor) {
+        return newGateway(countMode, executor == null ? null : counter(executor, this.transactionManager, () -> true));
+    }
+
+    private CategoryMySQLGateway parallelGateway(final CategoryCounter counter) {
+        return newGateway(CategoryMySQLGateway.CountMode.PARALLEL, counter);
+    }
+
+    private CategoryMySQLGateway newGateway(final CategoryMySQLGateway.CountMode countMode, final CategoryCounter counter) {
+        return new CategoryMySQLGateway(
+                this.repository,
+                new CategoryChangeLog(this.jdbcTemplate),
+                new CategoryTombstones(this.jdbcTemplate),
+                new Outbox(this.jdbcTemplate, false),
+                10_000,
+                false,
+                false,
+                Duration.ZERO,
+                countMode,
+                counter
+        );
+    }
+
+    private CategoryCounter counter(
+            final ExecutorService executor,
+            final PlatformTransactionManager transactionManager,
+            final BooleanSupplier connectionFree
+    ) {
+        return new CategoryCounter(this.repository, executor, transactionManager, connectionFree, Duration.ofSeconds(10));
+    }
+
+    // Runs the given callable in place of every submitted task and keeps the futures handed out
+    private static ExecutorService executorRunning(final Callable<Long> count, final List<RunnableFuture<?>> futures) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+                final var future = new FutureTask<>((Callable<T>) count);
+                futures.add(future);
+                return future;
+            }
+        };
+    }
+
+    private static List<Object> fields(final Category category) {
+        final var values = new ArrayList<Object>();
+        values.add(category.getId());
+        values.add(category.getName());
+        values.add(category.getDescription());
+        values.add(category.isActive());
+        values.add(category.getCreatedAt());
+        values.add(category.getUpdatedAt());
+        values.add(category.getDeletedAt());
+        values.add(category.getVersion());
+        return values;
+    }
+}
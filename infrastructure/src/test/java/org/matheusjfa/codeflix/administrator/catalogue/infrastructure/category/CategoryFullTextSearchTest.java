@@ -0,0 +1,48 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CategoryFullTextSearchTest {
+
+    /**
+     * Test Scenarios
+     * 1. Given full-text disabled, should never use the FULLTEXT index
+     * 2. Given missing terms or terms shorter than an ngram token, should fall back to the LIKE search
+     * 3. Given terms as long as an ngram token or longer, should use the FULLTEXT index
+     * 4. Given terms, should build a single quoted phrase without the quotes they carried
+     */
+
+    @Test
+    public void givenFullTextDisabled_shouldNeverUseTheFullTextIndex() {
+        Assertions.assertFalse(CategoryMySQLGateway.useFullText(false, "Movies"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "a", "  a  ", "\t"})
+    public void givenShortTerms_shouldFallBackToTheLikeSearch(final String terms) {
+        Assertions.assertFalse(CategoryMySQLGateway.useFullText(true, terms));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ab", " ab ", "Movies", "most watched"})
+    public void givenLongEnoughTerms_shouldUseTheFullTextIndex(final String terms) {
+        Assertions.assertTrue(CategoryMySQLGateway.useFullText(true, terms));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Movies|\"Movies\"",
+            "  most watched  |\"most watched\"",
+            "\"top\" 10|\"top 10\"",
+            "Kids -cartoon +anime*|\"Kids -cartoon +anime*\"",
+    })
+    public void givenTerms_shouldBuildASingleQuotedPhrase(final String terms, final String expected) {
+        Assertions.assertEquals(expected, CategoryMySQLGateway.fullTextPhrase(terms));
+    }
+}
@@ -1,26 +1,36 @@
 package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
-import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
 import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
 import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
-import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManagerFactory;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 @MySQLGatewayTest
-public class CategoryMySQLGatewayTest {
+public class CategoryMySQLGatewayTest extends AbstractCategoryGatewayTest {
 
     @Autowired
     private CategoryMySQLGateway gateway;
 
     @Autowired
-    private CategoryRepository repository;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    protected CategoryGateway gateway() {
+        return this.gateway;
+    }
 
     // Create
     @Test
@@ -66,6 +76,74 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(category.getDeletedAt(), entity.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldIssueOnlyTheInsert() {
+        // Arrange
+        final var expectedStatements = 1L;
+        final var category = Category.create("Category", "Category Description", true);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        this.gateway.create(category);
+        this.repository.flush();
+
+        // Assert
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1L, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0L, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldUpdateInsteadOfInsert() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        this.gateway.create(category);
+        this.repository.flush();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // Act
+        this.gateway.update(Category.with(category).update("Category Updated", "Category Description", true));
+        this.repository.flush();
+
+        // Assert
+        Assertions.assertEquals(0L, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1L, statistics.getEntityUpdateCount());
+        Assertions.assertEquals("Category Updated", this.gateway.findById(category.getId()).get().getName());
+    }
+
+    @Test
+    public void givenManyValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        // Arrange
+        final var expectedCount = 1_234;
+
+        final var categories = new ArrayList<Category>(expectedCount);
+        for (int i = 0; i < expectedCount; i++) {
+            categories.add(Category.create("Category " + i, "Category Description " + i, i % 2 == 0));
+        }
+
+        // Act
+        Assertions.assertEquals(0, repository.count());
+
+        final var result = this.gateway.createAll(categories);
+
+        // Assert
+        Assertions.assertEquals(expectedCount, result.size());
+        Assertions.assertEquals(expectedCount, repository.count());
+
+        final var expected = categories.get(expectedCount - 1);
+        final var actual = this.gateway.findById(expected.getId()).get();
+
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.isActive(), actual.isActive());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+    }
 
     // Update
     @Test
@@ -139,391 +217,259 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(result.getDeletedAt(), entity.getDeletedAt());
     }
 
-    // Delete
+
     @Test
-    public void givenAPersistedCategory_whenCallsDeleteByID_shouldReturnTheDeletedCategory() {
+    public void givenAPatch_whenCallsPatch_shouldUpdateWithASingleStatement() {
         // Arrange
-        final var expectedName = "Category";
-        final var expectedDescription = "Category Description";
-        final var expectedIsActive = true;
+        final var category = Category.create("Category", "Category Description", true);
+        repository.saveAndFlush(CategoryJPAEntity.from(category));
 
-        final var category = Category.create(expectedName, expectedDescription, expectedIsActive);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
 
         // Act
-        Assertions.assertEquals(0, repository.count());
-
-        this.gateway.create(category);
-
-        Assertions.assertEquals(1, repository.count());
-
-        final var result = this.gateway.deleteById(category.getId());
-
-        // Assert
-
-        // Check if the deleted entity.
-        Assertions.assertNotNull(result);
-        Assertions.assertEquals(category.getId(), result.getId());
-        Assertions.assertEquals(category.getName(), result.getName());
-        Assertions.assertEquals(category.getDescription(), result.getDescription());
-        Assertions.assertEquals(category.isActive(), result.isActive());
-
-        Assertions.assertEquals(category.getCreatedAt(), result.getCreatedAt());
-        Assertions.assertEquals(category.getUpdatedAt(), result.getUpdatedAt());
-        Assertions.assertEquals(category.getDeletedAt(), result.getDeletedAt());
-
-        // Check if the entity was deleted from the database
-        Assertions.assertEquals(0, this.repository.count());
-    }
-
-
-    // Delete
-    @Test
-    public void givenAnInvalidCategoryID_whenCallsDeleteByID_shouldThrowAnError() {
-        final var invalidCategoryID = CategoryID.from("Invalid_id");
-
-        Assertions.assertEquals(0, this.repository.count());
+        final var result = this.gateway.patch(CategoryPatch.with(category.getId(), "Movies", null, false));
 
         // Assert
-        Assertions.assertThrows(NoSuchElementException.class, () -> this.gateway.deleteById(invalidCategoryID));
-
-        Assertions.assertEquals(0, this.repository.count());
+        Assertions.assertEquals(CategoryPatchResult.UPDATED, result);
+        Assertions.assertEquals(1L, statistics.getPrepareStatementCount());
+
+        final var actual = this.gateway.findById(category.getId()).get();
+        Assertions.assertEquals("Movies", actual.getName());
+        Assertions.assertNull(actual.getDescription());
+        Assertions.assertFalse(actual.isActive());
+        Assertions.assertNotNull(actual.getDeletedAt());
+        Assertions.assertEquals(category.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertTrue(category.getUpdatedAt().isBefore(actual.getUpdatedAt()));
     }
 
-    // FindById
     @Test
-    public void givenAPersistentCategory_whenCallsFindById_shouldReturnTheCategory() {
+    public void givenTheCurrentVersion_whenCallsPatch_shouldUpdateAndBumpTheVersion() {
         // Arrange
-        final var expectedName = "Category";
-        final var expectedDescription = "Category Description";
-        final var expectedIsActive = true;
+        final var category = Category.create("Category", "Category Description", true);
+        repository.saveAndFlush(CategoryJPAEntity.fromNew(category));
 
-        final var category = Category.create(expectedName, expectedDescription, expectedIsActive);
+        final var currentVersion = this.gateway.findById(category.getId()).get().getVersion();
 
         // Act
-        Assertions.assertEquals(0, repository.count());
-
-        this.gateway.create(category);
-
-        Assertions.assertEquals(1, repository.count());
-
-        final var result = this.gateway.findById(category.getId()).get();
+        final var result = this.gateway.patch(CategoryPatch.with(category.getId(), "Movies", null, true, currentVersion));
 
         // Assert
-        Assertions.assertNotNull(result);
-
-        Assertions.assertEquals(category.getId(), result.getId());
-        Assertions.assertEquals(category.getName(), result.getName());
-        Assertions.assertEquals(category.getDescription(), result.getDescription());
-        Assertions.assertEquals(category.isActive(), result.isActive());
-
-        Assertions.assertEquals(category.getCreatedAt(), result.getCreatedAt());
-        Assertions.assertEquals(category.getUpdatedAt(), result.getUpdatedAt());
-        Assertions.assertEquals(category.getDeletedAt(), result.getDeletedAt());
-    }
-
-    // FindById
-    @Test
-    public void givenAnInvalidID_whenCallsFindById_shouldReturnEmptySet() {
-        // Arrange
-        final var invalidCategoryID = CategoryID.from("Invalid_id");
-
-        final var result = this.gateway.findById(invalidCategoryID);
-
-        // Assert
-        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(CategoryPatchResult.UPDATED, result);
+        Assertions.assertEquals(currentVersion + 1, this.gateway.findById(category.getId()).get().getVersion());
     }
 
-    // FindAll
     @Test
-    public void givenAPersistentCategory_whenCallsFindAll_shouldReturnAllCategories() {
+    public void givenAStaleVersion_whenCallsPatch_shouldReturnConflictAndKeepTheRow() {
         // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 3;
+        final var category = Category.create("Category", "Category Description", true);
+        repository.saveAndFlush(CategoryJPAEntity.fromNew(category));
 
-        final var expectedFirstItemName = "Animes";
+        final var staleVersion = this.gateway.findById(category.getId()).get().getVersion();
 
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
-
-        Assertions.assertEquals(7, repository.count());
+        // Someone else edits the category first
+        Assertions.assertEquals(
+                CategoryPatchResult.UPDATED,
+                this.gateway.patch(CategoryPatch.with(category.getId(), "Series", null, true, staleVersion))
+        );
 
         // Act
-        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var result = this.gateway.patch(CategoryPatch.with(category.getId(), "Movies", null, true, staleVersion));
 
         // Assert
-        Assertions.assertNotNull(results);
-
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
-
-        // First item
-        final var firstItem = results.items().get(0);
-
-        Assertions.assertNotNull(firstItem);
-        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
-    }
-
-    @Test
-    public void givenAPersistentCategory_whenCallsFindAllFiltering_shouldReturnSomeCategories() {
-        // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 3;
+        Assertions.assertEquals(CategoryPatchResult.CONFLICT, result);
 
-        final var expectedFirstItemName = "Movies";
-
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
-
-        Assertions.assertEquals(7, repository.count());
+        final var actual = this.gateway.findById(category.getId()).get();
+        Assertions.assertEquals("Series", actual.getName());
+        Assertions.assertEquals(staleVersion + 1, actual.getVersion());
     }
 
-    // FindAll
     @Test
-    public void givenAEmptySet_whenCallsFindAll_shouldReturnAnEmptySet() {
+    public void givenAnUnchangedPatch_whenCallsPatch_shouldNotWrite() {
         // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 0;
-
-        Assertions.assertEquals(0, repository.count());
+        final var category = Category.create("Category", null, false);
+        repository.saveAndFlush(CategoryJPAEntity.from(category));
 
         // Act
-        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var result = this.gateway.patch(CategoryPatch.with(category.getId(), "Category", null, false));
 
         // Assert
+        Assertions.assertEquals(CategoryPatchResult.UNCHANGED, result);
 
-        Assertions.assertNotNull(results);
-        Assertions.assertEquals(0, results.items().size());
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
+        final var actual = this.gateway.findById(category.getId()).get();
+        Assertions.assertEquals(category.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(category.getDeletedAt(), actual.getDeletedAt());
     }
 
-    // FindAll
     @Test
-    public void givenAPageGreaterThanTheTotal_whenCallsFindAll_shouldReturnAnEmptySet() {
+    public void givenACaseOnlyChange_whenCallsPatch_shouldUpdate() {
         // Arrange
-        final var expectedPage = 3;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 0;
-
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
-
-        Assertions.assertEquals(7, repository.count());
+        final var category = Category.create("movies", "Movies Description", true);
+        repository.saveAndFlush(CategoryJPAEntity.from(category));
 
         // Act
-        final var query = new CategorySearchQuery(3, 3, "", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var result = this.gateway.patch(CategoryPatch.with(category.getId(), "Movies", "Movies Description", true));
 
         // Assert
-        Assertions.assertNotNull(results);
-
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        Assertions.assertEquals(CategoryPatchResult.UPDATED, result);
+        Assertions.assertEquals("Movies", this.gateway.findById(category.getId()).get().getName());
     }
 
-    // FindAll
     @Test
-    public void givenATermToSearch_whenCallsFindAll_shouldReturnTheCorrectItems() {
-        // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 1;
-        final var expectedItemsCount = 1;
-
-        final var expectedFirstItemName = "Documentary";
-
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
-
-        Assertions.assertEquals(7, repository.count());
-
+    public void givenAnUnknownId_whenCallsPatch_shouldReturnNotFound() {
         // Act
-        final var query = new CategorySearchQuery(0, 3, "Doc", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var result = this.gateway.patch(CategoryPatch.with(CategoryID.from("invalid-id"), "Movies", null, true));
 
         // Assert
-        Assertions.assertNotNull(results);
-
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
-
-        // First item
-        final var firstItem = results.items().get(0);
-
-        Assertions.assertNotNull(firstItem);
-        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+        Assertions.assertEquals(CategoryPatchResult.NOT_FOUND, result);
+        Assertions.assertEquals(0, repository.count());
     }
 
-    // FindAll
     @Test
-    public void givenAnInvalidTermToSearch_whenCallsFindAll_shouldReturnAnEmptySet() {
+    public void givenAPersistedCategory_whenCallsSoftDeleteById_shouldHideItWithASingleStatement() {
         // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 0;
-        final var expectedItemsCount = 0;
-
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
+        final var category = Category.create("Category", "Category Description", true);
+        repository.saveAndFlush(CategoryJPAEntity.from(category));
 
-        Assertions.assertEquals(7, repository.count());
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
 
         // Act
-        final var query = new CategorySearchQuery(0, 3, "Invalid", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var deleted = this.gateway.softDeleteById(category.getId());
 
         // Assert
-        Assertions.assertNotNull(results);
+        Assertions.assertTrue(deleted);
+        Assertions.assertEquals(1L, statistics.getPrepareStatementCount());
 
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        Assertions.assertTrue(this.gateway.findById(category.getId()).isEmpty());
+        Assertions.assertEquals(0, repository.count());
+        Assertions.assertFalse(this.gateway.softDeleteById(category.getId()));
+        Assertions.assertEquals(
+                CategoryPatchResult.NOT_FOUND,
+                this.gateway.patch(CategoryPatch.with(category.getId(), "Movies", null, true))
+        );
     }
 
-    // FindAll
     @Test
-    public void givenAQueryToSortByName_whenCallsFindAll_shouldReturnTheCorrectOrder() {
+    public void givenIds_whenCallsUpdateStatusByIds_shouldDeactivateOnlyThoseCategories() {
         // Arrange
-        final var expectedPage = 0;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 3;
-
-        final var expectedFirstItemName = "Animes";
-
-        Assertions.assertEquals(0, repository.count());
+        final var alreadyInactive = Category.create("Series", "Series Description", false);
+        final var active = Category.create("Movies", "Movies Description", true);
+        final var untouched = Category.create("Documentaries", "Documentaries Description", true);
 
-        this.createCategories();
+        repository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.from(alreadyInactive),
+                CategoryJPAEntity.from(active),
+                CategoryJPAEntity.from(untouched)
+        ));
 
-        Assertions.assertEquals(7, repository.count());
+        final var expectedAffected = 2L;
 
         // Act
-        final var query = new CategorySearchQuery(0, 3, "", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var affected = this.gateway.updateStatusByIds(
+                List.of(alreadyInactive.getId(), active.getId(), CategoryID.from("missing-id")),
+                false
+        );
 
         // Assert
-        Assertions.assertNotNull(results);
+        Assertions.assertEquals(expectedAffected, affected);
 
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        final var actualInactive = this.gateway.findById(alreadyInactive.getId()).get();
+        Assertions.assertFalse(actualInactive.isActive());
+        Assertions.assertEquals(alreadyInactive.getDeletedAt(), actualInactive.getDeletedAt());
+        Assertions.assertTrue(alreadyInactive.getUpdatedAt().isBefore(actualInactive.getUpdatedAt()));
 
-        // First item
-        final var firstItem = results.items().get(0);
+        final var actualDeactivated = this.gateway.findById(active.getId()).get();
+        Assertions.assertFalse(actualDeactivated.isActive());
+        Assertions.assertNotNull(actualDeactivated.getDeletedAt());
 
-        Assertions.assertNotNull(firstItem);
-        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+        final var actualUntouched = this.gateway.findById(untouched.getId()).get();
+        Assertions.assertTrue(actualUntouched.isActive());
+        Assertions.assertNull(actualUntouched.getDeletedAt());
+        Assertions.assertEquals(untouched.getUpdatedAt(), actualUntouched.getUpdatedAt());
     }
 
-    // FindAll
     @Test
-    public void givenAQueryToSortByDescription_whenCallsFindAll_shouldReturnTheCorrectOrder() {
+    public void givenTerms_whenCallsUpdateStatusByTerms_shouldActivateMatchingCategories() {
         // Arrange
-        final var expectedPage = 1;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 3;
-
-        final var expectedFirstItemName = "Most Watched";
+        final var movies = Category.create("Movies", "Movies Description", false);
+        final var shortMovies = Category.create("Short films", "Short movies", false);
+        final var series = Category.create("Series", "Series Description", false);
 
-        Assertions.assertEquals(0, repository.count());
-
-        this.createCategories();
+        repository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.from(movies),
+                CategoryJPAEntity.from(shortMovies),
+                CategoryJPAEntity.from(series)
+        ));
 
-        Assertions.assertEquals(7, repository.count());
+        final var expectedAffected = 2L;
 
         // Act
-        final var query = new CategorySearchQuery(1, 3, "", "description", "asc");
-        final var results = this.gateway.findAll(query);
+        final var affected = this.gateway.updateStatusByTerms("movies", true);
 
         // Assert
-        Assertions.assertNotNull(results);
+        Assertions.assertEquals(expectedAffected, affected);
 
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        final var actualMovies = this.gateway.findById(movies.getId()).get();
+        Assertions.assertTrue(actualMovies.isActive());
+        Assertions.assertNull(actualMovies.getDeletedAt());
 
-        // First item
-        final var firstItem = results.items().get(0);
+        Assertions.assertTrue(this.gateway.findById(shortMovies.getId()).get().isActive());
 
-        Assertions.assertNotNull(firstItem);
-        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+        final var actualSeries = this.gateway.findById(series.getId()).get();
+        Assertions.assertFalse(actualSeries.isActive());
+        Assertions.assertNotNull(actualSeries.getDeletedAt());
     }
 
-    // FindAll
+    // Delete
     @Test
-    public void givenADifferentPage_whenCallsFindAll_shouldReturnTheCorrectPage() {
+    public void givenAPersistedCategory_whenCallsDeleteByID_shouldReturnTheDeletedCategory() {
         // Arrange
-        final var expectedPage = 1;
-        final var expectedPerPage = 3;
-        final var expectedTotal = 7;
-        final var expectedItemsCount = 3;
+        final var expectedName = "Category";
+        final var expectedDescription = "Category Description";
+        final var expectedIsActive = true;
 
-        final var expectedFirstItemName = "Most Watched";
+        final var category = Category.create(expectedName, expectedDescription, expectedIsActive);
 
+        // Act
         Assertions.assertEquals(0, repository.count());
 
-        this.createCategories();
+        this.gateway.create(category);
 
-        Assertions.assertEquals(7, repository.count());
+        Assertions.assertEquals(1, repository.count());
 
-        // Act
-        final var query = new CategorySearchQuery(1, 3, "", "name", "asc");
-        final var results = this.gateway.findAll(query);
+        final var result = this.gateway.deleteById(category.getId());
 
         // Assert
-        Assertions.assertNotNull(results);
 
-        Assertions.assertEquals(expectedPage, results.currentPage());
-        Assertions.assertEquals(expectedPerPage, results.perPage());
-        Assertions.assertEquals(expectedTotal, results.total());
-        Assertions.assertEquals(expectedItemsCount, results.items().size());
+        // Check if the deleted entity.
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(category.getId(), result.getId());
+        Assertions.assertEquals(category.getName(), result.getName());
+        Assertions.assertEquals(category.getDescription(), result.getDescription());
+        Assertions.assertEquals(category.isActive(), result.isActive());
 
-        // First item
-        final var firstItem = results.items().get(0);
+        Assertions.assertEquals(category.getCreatedAt(), result.getCreatedAt());
+        Assertions.assertEquals(category.getUpdatedAt(), result.getUpdatedAt());
+        Assertions.assertEquals(category.getDeletedAt(), result.getDeletedAt());
 
-        Assertions.assertNotNull(firstItem);
-        Assertions.assertEquals(expectedFirstItemName, firstItem.getName());
+        // Check if the entity was deleted from the database
+        Assertions.assertEquals(0, this.repository.count());
     }
 
-    private void createCategories() {
-        final var categories = List.of(
-                Category.create("Movies", "Movies Category", true),
-                Category.create("Series", "Series Category", false),
-                Category.create("Documentary", "Documentary Category", true),
-                Category.create("Animes", "Anime Category ", true),
-                Category.create("Cartoon", "Cartoons Category", false),
-                Category.create("Most Watched", "Most Watched Category", true),
-                Category.create("Top 10", "Top 10 Category", true)
-        );
 
-        this.repository.saveAll(categories
-                .stream()
-                .map(CategoryJPAEntity::from)
-                .toList()
-        );
+    // Delete
+    @Test
+    public void givenAnInvalidCategoryID_whenCallsDeleteByID_shouldThrowAnError() {
+        final var invalidCategoryID = CategoryID.from("Invalid_id");
+
+        Assertions.assertEquals(0, this.repository.count());
+
+        // Assert
+        Assertions.assertThrows(NoSuchElementException.class, () -> this.gateway.deleteById(invalidCategoryID));
+
+        Assertions.assertEquals(0, this.repository.count());
     }
-}
\ No newline at end of file
+}
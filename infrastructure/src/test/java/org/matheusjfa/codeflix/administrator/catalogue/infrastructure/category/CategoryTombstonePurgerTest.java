@@ -0,0 +1,58 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+public class CategoryTombstonePurgerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CategoryTombstones tombstones;
+
+    private CategoryTombstonePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        this.tombstones = new CategoryTombstones(this.jdbcTemplate);
+        this.purger = new CategoryTombstonePurger(this.tombstones, Duration.ofDays(7), 2);
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Tombstones older than the retention are purged in chunks, the recent ones stay in the feed
+     */
+
+    @Test
+    public void givenOldAndRecentTombstones_whenCallsPurge_shouldDeleteOnlyTheExpiredOnes() {
+        // Arrange
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var expectedPurged = 5L;
+
+        IntStream.range(0, 5).forEach(index -> tombstones.append(CategoryID.generate(), now.minus(30 + index, ChronoUnit.DAYS)));
+        final var recent = CategoryID.generate();
+        tombstones.append(recent, now.minus(1, ChronoUnit.DAYS));
+
+        // Act
+        final var purged = purger.purge(now.minus(7, ChronoUnit.DAYS));
+
+        // Assert
+        Assertions.assertEquals(expectedPurged, purged);
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_tombstones", Integer.class));
+
+        final var remaining = tombstones.findSince(Instant.EPOCH, new byte[0], now, 10);
+        Assertions.assertEquals(1, remaining.size());
+        Assertions.assertEquals(recent.getValue(), remaining.get(0).id());
+    }
+}
@@ -0,0 +1,210 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCursorQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "catalogue.category.jdbc.enabled=true")
+public class JdbcCategoryGatewayTest extends AbstractCategoryGatewayTest {
+
+    @Autowired
+    private JdbcCategoryGateway gateway;
+
+    @Autowired
+    private CategoryMySQLGateway jpaGateway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Override
+    protected CategoryGateway gateway() {
+        return this.gateway;
+    }
+
+    @Test
+    public void givenAnEnabledJdbcGateway_whenInjectingCategoryGateway_shouldPreferIt(
+            @Autowired final CategoryGateway categoryGateway
+    ) {
+        Assertions.assertSame(this.gateway, categoryGateway);
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsFindById_shouldReturnEveryColumn() {
+        // Arrange
+        final var category = this.jpaGateway.create(Category.create("Horror", null, false));
+        this.entityManager.flush();
+
+        // Act
+        final var actual = this.gateway.findById(category.getId()).orElseThrow();
+
+        // Assert
+        Assertions.assertEquals(fields(this.jpaGateway.findById(category.getId()).orElseThrow()), fields(actual));
+        Assertions.assertNull(actual.getDescription());
+        Assertions.assertFalse(actual.isActive());
+        Assertions.assertNotNull(actual.getDeletedAt());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(this.gateway.findById(CategoryID.generate()).isEmpty());
+    }
+
+    @Test
+    public void givenASoftDeletedCategory_whenCallsFindById_shouldReturnEmpty() {
+        // Arrange
+        final var category = this.gateway.create(Category.create("Horror", "Horror Category", true));
+
+        // Act
+        this.gateway.softDeleteById(category.getId());
+
+        // Assert
+        Assertions.assertTrue(this.gateway.findById(category.getId()).isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 3, '', name, asc",
+            "1, 3, '', name, desc",
+            "2, 3, '', name, asc",
+            "0, 10, category, description, asc",
+            "0, 2, MOVIES, name, asc",
+            "0, 3, invalid, name, asc",
+            "1, 2, '', createdAt, desc",
+    })
+    public void givenAQuery_whenCallsFindAll_shouldReturnTheSamePageAsTheJpaGateway(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        // Arrange
+        seed();
+
+        final var query = new CategorySearchQuery(page, perPage, terms, sort, direction);
+
+        // Act
+        final var actual = this.gateway.findAll(query);
+        final var slice = this.gateway.findAll(query.withoutTotal());
+
+        // Assert
+        final var expected = this.jpaGateway.findAll(query);
+        final var expectedSlice = this.jpaGateway.findAll(query.withoutTotal());
+
+        Assertions.assertEquals(expected.map(JdbcCategoryGatewayTest::fields), actual.map(JdbcCategoryGatewayTest::fields));
+        Assertions.assertEquals(expectedSlice.map(JdbcCategoryGatewayTest::fields), slice.map(JdbcCategoryGatewayTest::fields));
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, slice.total());
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsFindAll_shouldThrowDomainException() {
+        // Arrange
+        final var query = new CategorySearchQuery(0, 3, "", "name; DROP TABLE category", "asc");
+
+        // Act
+        final var exception = Assertions.assertThrows(DomainException.class, () -> this.gateway.findAll(query));
+
+        // Assert
+        Assertions.assertEquals(
+                "Categories cannot be sorted by 'name; DROP TABLE category'",
+                exception.getErrors().get(0).message()
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "name, asc",
+            "name, desc",
+            "createdAt, asc",
+            "updatedAt, desc",
+    })
+    public void givenCursorPages_whenCallsFindAllAfter_shouldWalkTheSamePagesAsTheJpaGateway(
+            final String sort,
+            final String direction
+    ) {
+        // Arrange
+        seed();
+
+        final var actual = new ArrayList<List<Object>>();
+        final var expected = new ArrayList<List<Object>>();
+
+        // Act
+        String cursor = null;
+        do {
+            final var page = this.gateway.findAllAfter(new CategoryCursorQuery(2, cursor, "", sort, direction));
+            final var jpaPage = this.jpaGateway.findAllAfter(new CategoryCursorQuery(2, cursor, "", sort, direction));
+
+            Assertions.assertEquals(jpaPage.nextCursor(), page.nextCursor());
+
+            page.items().forEach(category -> actual.add(fields(category)));
+            jpaPage.items().forEach(category -> expected.add(fields(category)));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        Assertions.assertEquals(7, actual.size());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void givenATermFilter_whenCallsStreamAll_shouldStreamTheSameCategoriesAsTheJpaGateway() {
+        // Arrange
+        seed();
+
+        final var query = new CategorySearchQuery(0, 1, "category", "name", "desc");
+
+        final var actual = new ArrayList<List<Object>>();
+        final var expected = new ArrayList<List<Object>>();
+
+        // Act
+        final var streamed = this.gateway.streamAll(query, category -> actual.add(fields(category)));
+        this.jpaGateway.streamAll(query, category -> expected.add(fields(category)));
+
+        // Assert
+        Assertions.assertEquals(6, streamed);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    // Compared against the JPA gateway, which reads the same rows
+    private void seed() {
+        this.repository.saveAllAndFlush(List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", null, true),
+                Category.create("Animes", "Anime Category", true),
+                Category.create("Cartoon", "Cartoons Category", false),
+                Category.create("Most Watched", "Most Watched Category", true),
+                Category.create("Top 10", "Top 10 Category", true)
+        ).stream().map(CategoryJPAEntity::from).toList());
+    }
+
+    private static List<Object> fields(final Category category) {
+        final var values = new ArrayList<Object>();
+        values.add(category.getId());
+        values.add(category.getName());
+        values.add(category.getDescription());
+        values.add(category.isActive());
+        values.add(category.getCreatedAt());
+        values.add(category.getUpdatedAt());
+        values.add(category.getDeletedAt());
+        values.add(category.getVersion());
+        return values;
+    }
+}
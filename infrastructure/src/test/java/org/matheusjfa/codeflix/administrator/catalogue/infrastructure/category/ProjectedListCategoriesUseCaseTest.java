@@ -0,0 +1,142 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesOutput;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@MySQLGatewayTest
+public class ProjectedListCategoriesUseCaseTest {
+
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProjectedListCategoriesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new ProjectedListCategoriesUseCase(
+                this.repository,
+                new DefaultListCategoriesUseCase(this.gateway),
+                10_000,
+                false
+        );
+
+        this.repository.saveAll(List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", null, true),
+                Category.create("Animes", "Anime Category", true),
+                Category.create("Cartoon", "Cartoons Category", false)
+        ).stream().map(CategoryJPAEntity::from).toList());
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    public void givenAQuery_whenCallsExecute_shouldReturnTheSamePageAsTheGatewayPath() {
+        // Arrange
+        final var expectedNames = List.of("Cartoon", "Documentary");
+        final var command = ListCategoriesCommand.with(new CategorySearchQuery(1, 2, "", "name", "asc"));
+
+        // Act
+        final var actual = this.useCase.execute(command);
+
+        // Assert
+        final var expected = new DefaultListCategoriesUseCase(this.gateway).execute(command);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(5, actual.total());
+        Assertions.assertEquals(expectedNames, actual.items().stream().map(item -> item.name()).toList());
+        Assertions.assertNull(actual.items().get(1).description());
+    }
+
+    @Test
+    public void givenAQuery_whenCallsExecute_shouldNotAttachAnyEntity() {
+        // Arrange
+        final var command = ListCategoriesCommand.with(new CategorySearchQuery(0, 10, "category", "name", "asc"));
+
+        // Act
+        final var actual = this.useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(4, actual.total());
+        Assertions.assertEquals(0, this.entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void givenAQueryWithoutTotal_whenCallsExecute_shouldReturnASlice() {
+        // Arrange
+        final var command = ListCategoriesCommand.with(new CategorySearchQuery(1, 2, "", "name", "desc").withoutTotal());
+
+        // Act
+        final var actual = this.useCase.execute(command);
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actual.total());
+        Assertions.assertTrue(actual.hasNext());
+        Assertions.assertEquals(List.of("Documentary", "Cartoon"), actual.items().stream().map(item -> item.name()).toList());
+    }
+
+    @Test
+    public void givenAPageBeyondTheMaximumOffset_whenCallsExecute_shouldThrowDomainException() {
+        // Arrange
+        final var useCase = new ProjectedListCategoriesUseCase(
+                this.repository,
+                new DefaultListCategoriesUseCase(this.gateway),
+                10,
+                false
+        );
+
+        final var command = ListCategoriesCommand.with(new CategorySearchQuery(6, 2, "", "name", "asc"));
+
+        // Act
+        final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command));
+
+        // Assert
+        Assertions.assertEquals(
+                "Page 6 is beyond the maximum offset of 10, use cursor pagination instead",
+                exception.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    public void givenFullTextTerms_whenCallsExecute_shouldDelegateToTheFallback() {
+        // Arrange
+        final var fallback = Mockito.mock(ListCategoriesUseCase.class);
+        final var useCase = new ProjectedListCategoriesUseCase(this.repository, fallback, 10_000, true);
+        final var command = ListCategoriesCommand.with(new CategorySearchQuery(0, 2, "movies", "name", "asc"));
+        final var expected = new Pagination<>(0, 2, 0, List.<ListCategoriesOutput>of());
+
+        Mockito.when(fallback.execute(command)).thenReturn(expected);
+
+        // Act
+        final var actual = useCase.execute(command);
+
+        // Assert
+        Assertions.assertSame(expected, actual);
+    }
+}
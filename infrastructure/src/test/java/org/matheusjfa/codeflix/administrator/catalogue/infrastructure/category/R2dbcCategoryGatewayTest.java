@@ -0,0 +1,345 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.ReactiveCategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.ReactiveCreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.ReactiveDeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.ReactiveUpdateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryChangesQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.WebserverConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+// The reactive gateway runs beside the JPA one over the same H2 database, so every write can be checked from both
+public class R2dbcCategoryGatewayTest {
+    private static final String OPTIONS = "MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private ConfigurableApplicationContext context;
+    private ReactiveCategoryGateway gateway;
+    private CategoryGateway jpaGateway;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.context = new SpringApplicationBuilder(WebserverConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:codeflix_reactive;" + OPTIONS,
+                        "catalogue.category.reactive.enabled=true",
+                        "catalogue.category.reactive.url=r2dbc:h2:mem:///codeflix_reactive?options=" + OPTIONS,
+                        // H2 stores DATETIME in the JVM zone, which is what the JDBC side writes with
+                        "catalogue.category.reactive.time-zone=" + ZoneId.systemDefault().getId(),
+                        "catalogue.category.changes.enabled=true",
+                        "catalogue.category.changes.poll-interval=PT1H",
+                        "catalogue.category.changes.prune-interval=PT1H",
+                        "catalogue.category.feed.lag=PT0S",
+                        "catalogue.category.cache.enabled=true",
+                        "catalogue.outbox.enabled=true",
+                        "catalogue.outbox.relay.interval=PT1H"
+                )
+                .run();
+
+        this.gateway = this.context.getBean(ReactiveCategoryGateway.class);
+        this.jpaGateway = this.context.getBean(CategoryMySQLGateway.class);
+        this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.execute("DROP ALL OBJECTS");
+        this.context.close();
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a category created reactively, should read the same columns through both gateways
+     * 2. Given a category created through JPA, when calls findById, should return the same columns
+     * 3. Given a write, should store its outbox event and change log row in the same transaction
+     * 4. Given a query, when calls findAll, should return the same page as the JPA gateway
+     * 5. Given an unknown sort, when calls findAll, should signal DomainException
+     * 6. Given a term filter, when calls streamAll, should emit every matching category in order
+     * 7. Given patches, should report UPDATED, UNCHANGED, CONFLICT and NOT_FOUND like the JPA gateway
+     * 8. Given an existing and an unknown id, when calls deleteById, should delete the first, leave a tombstone and be empty for the second
+     * 9. Given the reactive use cases, should create, update and delete a category
+     * 10. Given a category cached by the blocking gateway, when written reactively, should not serve the stale copy
+     * 11. Given soft delete, when calls deleteById, should only mark the row removed and be empty once it is
+     */
+
+    @Test
+    public void givenACategoryCreatedReactively_whenReadThroughJpa_shouldHaveTheSameColumns() {
+        // Arrange
+        final var category = Category.create("Movies", null, false);
+
+        // Act
+        final var created = this.gateway.create(category).block();
+
+        // Assert
+        final var stored = this.jpaGateway.findById(category.getId()).orElseThrow();
+        Assertions.assertEquals(fields(this.gateway.findById(category.getId()).block()), fields(stored));
+        Assertions.assertEquals(category.getId(), created.getId());
+        Assertions.assertTrue(category.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenACategoryCreatedThroughJpa_whenCallsFindById_shouldReturnTheSameColumns() {
+        // Arrange
+        final var category = this.jpaGateway.create(Category.create("Series", "Series Category", true));
+
+        // Act
+        final var actual = this.gateway.findById(category.getId()).block();
+
+        // Assert
+        Assertions.assertEquals(fields(this.jpaGateway.findById(category.getId()).orElseThrow()), fields(actual));
+        Assertions.assertNull(this.gateway.findById(CategoryID.generate()).block());
+    }
+
+    @Test
+    public void givenAWrite_shouldStoreItsEventAndChangeInTheSameTransaction() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies Category", true);
+
+        // Act
+        this.gateway.create(category).block();
+        this.gateway.patch(CategoryPatch.with(category.getId(), "Films", "Movies Category", true)).block();
+        this.gateway.deleteById(category.getId()).block();
+
+        // Assert
+        Assertions.assertEquals(
+                List.of("CategoryCreated", "CategoryUpdated", "CategoryDeleted"),
+                this.jdbcTemplate.queryForList("SELECT event_type FROM outbox ORDER BY sequence", String.class)
+        );
+        Assertions.assertEquals(
+                3,
+                this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_changes", Long.class)
+        );
+    }
+
+    @Test
+    public void givenAQuery_whenCallsFindAll_shouldReturnTheSamePageAsTheJpaGateway() {
+        // Arrange
+        this.jpaGateway.createAll(List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", null, true),
+                Category.create("Animes", "Anime Category", true),
+                Category.create("Cartoon", "Cartoons Category", false)
+        ));
+
+        final var queries = List.of(
+                new CategorySearchQuery(0, 2, "", "name", "asc"),
+                new CategorySearchQuery(2, 2, "", "name", "asc"),
+                new CategorySearchQuery(0, 10, "category", "description", "desc"),
+                new CategorySearchQuery(1, 2, "", "createdAt", "desc").withoutTotal()
+        );
+
+        for (final var query : queries) {
+            // Act
+            final var actual = this.gateway.findAll(query).block();
+
+            // Assert
+            final var expected = this.jpaGateway.findAll(query);
+            Assertions.assertEquals(expected.map(R2dbcCategoryGatewayTest::fields), actual.map(R2dbcCategoryGatewayTest::fields));
+        }
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsFindAll_shouldSignalDomainException() {
+        // Arrange
+        final var query = new CategorySearchQuery(0, 3, "", "name; DROP TABLE category", "asc");
+        final var page = this.gateway.findAll(query);
+
+        // Act
+        final var exception = Assertions.assertThrows(DomainException.class, page::block);
+
+        // Assert
+        Assertions.assertEquals(
+                "Categories cannot be sorted by 'name; DROP TABLE category'",
+                exception.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    public void givenATermFilter_whenCallsStreamAll_shouldEmitEveryMatchingCategory() {
+        // Arrange
+        this.jpaGateway.createAll(List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", null, true)
+        ));
+
+        final var query = new CategorySearchQuery(0, 1, "category", "name", "desc");
+
+        // Act
+        final var actual = this.gateway.streamAll(query).map(Category::getName).collectList().block();
+
+        // Assert
+        Assertions.assertEquals(List.of("Series", "Movies"), actual);
+    }
+
+    @Test
+    public void givenPatches_whenCallsPatch_shouldReportTheSameResultsAsTheJpaGateway() {
+        // Arrange
+        final var category = this.gateway.create(Category.create("Movies", "Movies Category", true)).block();
+        final var id = category.getId();
+
+        // Act
+        final var updated = this.gateway.patch(CategoryPatch.with(id, "Films", null, false, 0L)).block();
+        final var unchanged = this.gateway.patch(CategoryPatch.with(id, "Films", null, false)).block();
+        final var conflict = this.gateway.patch(CategoryPatch.with(id, "Movies", null, false, 0L)).block();
+        final var notFound = this.gateway.patch(CategoryPatch.with(CategoryID.generate(), "Movies", null, true)).block();
+
+        // Assert
+        Assertions.assertEquals(CategoryPatchResult.UPDATED, updated);
+        Assertions.assertEquals(CategoryPatchResult.UNCHANGED, unchanged);
+        Assertions.assertEquals(CategoryPatchResult.CONFLICT, conflict);
+        Assertions.assertEquals(CategoryPatchResult.NOT_FOUND, notFound);
+
+        final var stored = this.jpaGateway.findById(id).orElseThrow();
+        Assertions.assertEquals("Films", stored.getName());
+        Assertions.assertNull(stored.getDescription());
+        Assertions.assertFalse(stored.isActive());
+        Assertions.assertNotNull(stored.getDeletedAt());
+        Assertions.assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    public void givenAnExistingAndAnUnknownId_whenCallsDeleteById_shouldDeleteOnlyTheExistingOne() {
+        // Arrange
+        final var category = this.gateway.create(Category.create("Movies", "Movies Category", true)).block();
+
+        // Act
+        final var deleted = this.gateway.deleteById(category.getId()).block();
+        final var unknown = this.gateway.deleteById(CategoryID.generate()).block();
+
+        // Assert
+        Assertions.assertEquals(category.getId(), deleted);
+        Assertions.assertNull(unknown);
+        Assertions.assertTrue(this.jpaGateway.findById(category.getId()).isEmpty());
+
+        final var feed = this.jpaGateway.findChangesSince(new CategoryChangesQuery(null, 10));
+        Assertions.assertTrue(feed.items().stream().anyMatch(item -> item.isTombstone() && item.id().equals(category.getId())));
+    }
+
+    @Test
+    public void givenTheReactiveUseCases_shouldCreateUpdateAndDeleteACategory() {
+        // Arrange
+        final var create = this.context.getBean(ReactiveCreateCategoryUseCase.class);
+        final var update = this.context.getBean(ReactiveUpdateCategoryUseCase.class);
+        final var delete = this.context.getBean(ReactiveDeleteCategoryUseCase.class);
+
+        // Act
+        final var id = create.execute(CreateCategoryCommand.with("Movies", "Movies Category", true))
+                .block()
+                .get()
+                .id();
+
+        update.execute(UpdateCategoryCommand.with(id, "Films", "Movies Category", true)).block();
+
+        final var name = this.jpaGateway.findById(id).orElseThrow().getName();
+
+        delete.execute(DeleteCategoryCommand.with(id.getValue())).block();
+
+        // Assert
+        Assertions.assertEquals("Films", name);
+        Assertions.assertTrue(this.jpaGateway.findById(id).isEmpty());
+    }
+
+    @Test
+    public void givenACachedCategory_whenWrittenReactively_shouldNotServeTheStaleCopy() {
+        // Arrange
+        final var getCategory = this.context.getBean(GetCategoryByIdUseCase.class);
+
+        final var category = this.gateway.create(Category.create("Movies", null, true)).block();
+        final var command = GetCategoryByIdCommand.with(category.getId().getValue());
+
+        Assertions.assertEquals("Movies", getCategory.execute(command).name());
+
+        // Act
+        this.gateway.patch(CategoryPatch.with(category.getId(), "Films", null, true)).block();
+        final var patched = getCategory.execute(command).name();
+
+        this.gateway.deleteById(category.getId()).block();
+
+        // Assert
+        Assertions.assertEquals("Films", patched);
+        Assertions.assertThrows(DomainException.class, () -> getCategory.execute(command));
+    }
+
+    @Test
+    public void givenSoftDelete_whenCallsDeleteById_shouldOnlyMarkTheRowRemoved() {
+        // Arrange
+        final var pool = this.context.getBean(ConnectionPool.class);
+        final var gateway = new R2dbcCategoryGateway(
+                DatabaseClient.create(pool),
+                TransactionalOperator.create(new R2dbcTransactionManager(pool)),
+                ZoneId.systemDefault(),
+                10_000,
+                false,
+                true,
+                true,
+                true,
+                List.of()
+        );
+
+        final var category = gateway.create(Category.create("Movies", "Movies Category", true)).block();
+
+        // Act
+        final var deleted = gateway.deleteById(category.getId()).block();
+        final var again = gateway.deleteById(category.getId()).block();
+
+        // Assert
+        Assertions.assertEquals(category.getId(), deleted);
+        Assertions.assertNull(again);
+        Assertions.assertTrue(this.jpaGateway.findById(category.getId()).isEmpty());
+        Assertions.assertEquals(1, this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM category WHERE removed_at IS NOT NULL", Integer.class));
+        Assertions.assertEquals(0, this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM category_tombstones", Integer.class));
+
+        final var feed = this.jpaGateway.findChangesSince(new CategoryChangesQuery(null, 10));
+        Assertions.assertTrue(feed.items().stream().anyMatch(item -> item.isTombstone() && item.id().equals(category.getId())));
+        Assertions.assertEquals(
+                List.of("CategoryCreated", "CategoryDeleted"),
+                this.jdbcTemplate.queryForList("SELECT event_type FROM outbox ORDER BY sequence", String.class)
+        );
+    }
+
+    private static List<Object> fields(final Category category) {
+        final var values = new ArrayList<Object>();
+        values.add(category.getId());
+        values.add(category.getName());
+        values.add(category.getDescription());
+        values.add(category.isActive());
+        values.add(category.getCreatedAt());
+        values.add(category.getUpdatedAt());
+        values.add(category.getDeletedAt());
+        values.add(category.getVersion());
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.archive;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryJPAEntity;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@MySQLGatewayTest
+public class CategoryArchivePurgerTest {
+
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryArchivePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        this.purger = new CategoryArchivePurger(this.jdbcTemplate, this.transactionManager, Duration.ofDays(30), 2, Duration.ZERO);
+    }
+
+    @Test
+    public void givenSoftDeletedCategories_whenCallsPurge_shouldArchiveOnlyTheExpiredOnes() {
+        // Arrange
+        final var expired = List.of(
+                Category.create("Movies", "Movies Description", true),
+                Category.create("Series", null, false),
+                Category.create("Documentaries", "Documentaries Description", true)
+        );
+        final var recentlyRemoved = Category.create("Kids", "Kids Description", true);
+        final var alive = Category.create("Sports", "Sports Description", true);
+
+        expired.forEach(category -> repository.saveAndFlush(CategoryJPAEntity.from(category)));
+        repository.saveAndFlush(CategoryJPAEntity.from(recentlyRemoved));
+        repository.saveAndFlush(CategoryJPAEntity.from(alive));
+
+        expired.forEach(category -> Assertions.assertTrue(gateway.softDeleteById(category.getId())));
+        Assertions.assertTrue(gateway.softDeleteById(recentlyRemoved.getId()));
+
+        final var removedLongAgo = Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS));
+        expired.forEach(category -> jdbcTemplate.update(
+                "UPDATE category SET removed_at = ? WHERE id = ?",
+                removedLongAgo,
+                BinaryUUIDUtils.toBytes(category.getId().getValue())
+        ));
+
+        final var expectedArchived = 3L;
+
+        // Act
+        final var archived = purger.purge(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Assert
+        Assertions.assertEquals(expectedArchived, archived);
+        Assertions.assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_archive", Integer.class));
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Integer.class));
+
+        // Soft deleted rows are hidden even before they are archived
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(gateway.findById(alive.getId()).isPresent());
+        Assertions.assertTrue(gateway.findById(recentlyRemoved.getId()).isEmpty());
+
+        final var archivedName = jdbcTemplate.queryForObject(
+                "SELECT name FROM category_archive WHERE id = ?",
+                String.class,
+                BinaryUUIDUtils.toBytes(expired.get(1).getId().getValue())
+        );
+        Assertions.assertEquals("Series", archivedName);
+    }
+}
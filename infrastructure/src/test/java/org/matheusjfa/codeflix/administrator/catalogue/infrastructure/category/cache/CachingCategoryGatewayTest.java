@@ -0,0 +1,216 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingCategoryGatewayTest {
+
+    private CategoryGateway delegate;
+    private CategoryCache cache;
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = Mockito.mock(CategoryGateway.class);
+        this.cache = new CategoryCache(100, Duration.ofMinutes(10), 100, Duration.ofMinutes(1));
+        this.gateway = new CachingCategoryGateway(this.delegate, this.cache);
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a category read twice, should hit the delegate only once
+     * 2. Given a cached category mutated by the caller, should keep the cached copy untouched
+     * 3. Given an unknown id, should not cache the miss
+     * 4. Given a patched category, should reload it on the next read
+     * 5. Given a deleted category, should not return it from memory
+     * 6. Given a created category, should serve it without reading the delegate
+     * 7. Given equivalent search queries, should run the search once
+     * 8. Given a cached search page, should search again after a write
+     * 9. Given a meter registry, should publish the hits, misses and evictions of both caches
+     */
+
+    @Test
+    public void givenACategoryReadTwice_whenCallsFindById_shouldHitTheDelegateOnce() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+
+        when(delegate.findById(eq(category.getId()))).thenReturn(Optional.of(category));
+
+        // Act
+        gateway.findById(category.getId());
+        final var actual = gateway.findById(category.getId()).orElseThrow();
+
+        // Assert
+        Assertions.assertEquals(category.getName(), actual.getName());
+        Assertions.assertEquals(1, cache.stats().hitCount());
+        Assertions.assertEquals(1, cache.stats().missCount());
+        verify(delegate, times(1)).findById(eq(category.getId()));
+    }
+
+    @Test
+    public void givenACachedCategoryMutatedByTheCaller_whenCallsFindById_shouldReturnTheOriginalState() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+
+        when(delegate.findById(eq(category.getId()))).thenReturn(Optional.of(category));
+
+        // Act
+        gateway.findById(category.getId()).orElseThrow().update("Series", "Series description", false);
+        final var actual = gateway.findById(category.getId()).orElseThrow();
+
+        // Assert
+        Assertions.assertEquals("Movies", actual.getName());
+        Assertions.assertTrue(actual.isActive());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsFindById_shouldNotCacheTheMiss() {
+        // Arrange
+        final var id = CategoryID.generate();
+
+        when(delegate.findById(eq(id))).thenReturn(Optional.empty());
+
+        // Act
+        final var first = gateway.findById(id);
+        final var second = gateway.findById(id);
+
+        // Assert
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(second.isEmpty());
+        Assertions.assertEquals(0, cache.size());
+        verify(delegate, times(2)).findById(eq(id));
+    }
+
+    @Test
+    public void givenAPatchedCategory_whenCallsFindById_shouldReloadIt() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+        final var patched = category.clone().update("Films", "Movies description", true);
+
+        when(delegate.findById(eq(category.getId()))).thenReturn(Optional.of(category), Optional.of(patched));
+        when(delegate.patch(any())).thenReturn(CategoryPatchResult.UPDATED);
+
+        gateway.findById(category.getId());
+
+        // Act
+        gateway.patch(CategoryPatch.with(category.getId(), "Films", "Movies description", true));
+        final var actual = gateway.findById(category.getId()).orElseThrow();
+
+        // Assert
+        Assertions.assertEquals("Films", actual.getName());
+        verify(delegate, times(2)).findById(eq(category.getId()));
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindById_shouldNotReturnItFromMemory() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+
+        when(delegate.findById(eq(category.getId()))).thenReturn(Optional.of(category), Optional.empty());
+
+        gateway.findById(category.getId());
+
+        // Act
+        gateway.deleteById(category.getId());
+        final var actual = gateway.findById(category.getId());
+
+        // Assert
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void givenCreatedCategories_whenCallsFindById_shouldNotReadTheDelegate() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+
+        when(delegate.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        gateway.createAll(List.of(category));
+        final var actual = gateway.findById(category.getId());
+
+        // Assert
+        Assertions.assertTrue(actual.isPresent());
+        verify(delegate, times(0)).findById(any());
+    }
+
+    @Test
+    public void givenEquivalentSearchQueries_whenCallsFindAll_shouldSearchOnce() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+        final var expectedQuery = new CategorySearchQuery(0, 10, "movies", "name", "asc");
+
+        when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 10, 1, List.of(category)));
+
+        // Act
+        gateway.findAll(new CategorySearchQuery(0, 10, "movies", "name", "asc"));
+        final var actual = gateway.findAll(new CategorySearchQuery(0, 10, "  Movies ", "name", "ASC"));
+
+        // Assert
+        Assertions.assertEquals(1, actual.total());
+        Assertions.assertEquals(category.getName(), actual.items().get(0).getName());
+        Assertions.assertEquals(1, cache.pageStats().hitCount());
+        verify(delegate, times(1)).findAll(eq(expectedQuery));
+    }
+
+    @Test
+    public void givenACachedSearchPage_whenAWriteHappens_shouldSearchAgain() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies description", true);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(delegate.findAll(any())).thenReturn(Pagination.slice(0, 10, List.of(), false));
+        when(delegate.create(any())).thenReturn(category);
+
+        gateway.findAll(query);
+
+        // Act
+        gateway.create(category);
+        gateway.findAll(query);
+
+        // Assert
+        verify(delegate, times(2)).findAll(any());
+    }
+
+    @Test
+    public void givenAMeterRegistry_whenCallsFindById_shouldPublishTheCacheStatistics() {
+        // Arrange
+        final var registry = new SimpleMeterRegistry();
+        final var category = Category.create("Movies", "Movies description", true);
+
+        when(delegate.findById(eq(category.getId()))).thenReturn(Optional.of(category));
+
+        cache.bindTo(registry);
+
+        // Act
+        gateway.findById(category.getId());
+        gateway.findById(category.getId());
+        gateway.findById(category.getId());
+
+        // Assert
+        Assertions.assertEquals(2, registry.get("cache.gets").tag("cache", "category").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("cache.gets").tag("cache", "category").tag("result", "miss").functionCounter().count());
+        Assertions.assertNotNull(registry.get("cache.evictions").tag("cache", "category").functionCounter());
+        Assertions.assertNotNull(registry.get("cache.evictions").tag("cache", "category-pages").functionCounter());
+    }
+}
@@ -0,0 +1,164 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.delete.DeleteCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.update.UpdateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search.CategoryLuceneIndex;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.WebserverConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+// Two application contexts over one H2 database stand in for two nodes of the same deployment
+public class CategoryChangePollerTest {
+    private static final String SHARED_DATABASE =
+            "jdbc:h2:mem:codeflix_nodes;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @TempDir
+    Path indexes;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        this.nodeA = startNode(this.indexes.resolve("a"));
+        this.nodeB = startNode(this.indexes.resolve("b"));
+
+        // The first poll only marks where each node starts following the log
+        this.nodeA.getBean(CategoryChangePoller.class).poll();
+        this.nodeB.getBean(CategoryChangePoller.class).poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.nodeA.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        this.nodeB.close();
+        this.nodeA.close();
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a category cached on node B, when node A updates it, should serve the new name on node B after a poll
+     * 2. Given a search page cached on node B, when node A creates a category, should list it on node B after a poll
+     * 3. Given node B's search index, when node A renames and deletes categories, should search them on node B after a poll
+     */
+
+    @Test
+    public void givenACategoryCachedOnAnotherNode_whenUpdated_shouldBeEvictedAfterAPoll() {
+        // Arrange
+        final var id = nodeA.getBean(CreateCategoryUseCase.class)
+                .execute(CreateCategoryCommand.with("Movies", "Movies description", true))
+                .get()
+                .id();
+
+        final var getOnB = nodeB.getBean(GetCategoryByIdUseCase.class);
+        final var command = GetCategoryByIdCommand.with(id.getValue());
+
+        Assertions.assertEquals("Movies", getOnB.execute(command).name());
+
+        nodeA.getBean(UpdateCategoryUseCase.class)
+                .execute(UpdateCategoryCommand.with(id, "Films", "Movies description", true));
+
+        // Still served from node B's memory
+        Assertions.assertEquals("Movies", getOnB.execute(command).name());
+
+        // Act
+        nodeB.getBean(CategoryChangePoller.class).poll();
+
+        // Assert
+        Assertions.assertEquals("Films", getOnB.execute(command).name());
+    }
+
+    @Test
+    public void givenASearchPageCachedOnAnotherNode_whenACategoryIsCreated_shouldBeListedAfterAPoll() {
+        // Arrange
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var listOnB = nodeB.getBean(ListCategoriesUseCase.class);
+
+        Assertions.assertEquals(0, listOnB.execute(ListCategoriesCommand.with(query)).total());
+
+        nodeA.getBean(CreateCategoryUseCase.class)
+                .execute(CreateCategoryCommand.with("Movies", "Movies description", true));
+
+        Assertions.assertEquals(0, listOnB.execute(ListCategoriesCommand.with(query)).total());
+
+        // Act
+        nodeB.getBean(CategoryChangePoller.class).poll();
+
+        // Assert
+        Assertions.assertEquals(1, listOnB.execute(ListCategoriesCommand.with(query)).total());
+    }
+
+    @Test
+    public void givenTheSearchIndexOfAnotherNode_whenCategoriesChange_shouldBeSearchedAfterAPoll() throws InterruptedException {
+        // Arrange
+        final var create = nodeA.getBean(CreateCategoryUseCase.class);
+        final var movies = create.execute(CreateCategoryCommand.with("Movies", "Movies description", true)).get().id();
+        final var series = create.execute(CreateCategoryCommand.with("Series", "Series description", true)).get().id();
+
+        final var indexOnB = nodeB.getBean(CategoryLuceneIndex.class);
+        final var listOnB = nodeB.getBean(ListCategoriesUseCase.class);
+
+        nodeB.getBean(CategoryChangePoller.class).poll();
+        awaitReady(indexOnB);
+
+        nodeA.getBean(UpdateCategoryUseCase.class)
+                .execute(UpdateCategoryCommand.with(movies, "Films", "Movies description", true));
+        nodeA.getBean(DeleteCategoryUseCase.class).execute(DeleteCategoryCommand.with(series.getValue()));
+
+        // Act
+        nodeB.getBean(CategoryChangePoller.class).poll();
+        indexOnB.refresh();
+
+        // Assert
+        final var films = listOnB.execute(ListCategoriesCommand.with(new CategorySearchQuery(0, 10, "films", "name", "asc")));
+        final var description = listOnB.execute(ListCategoriesCommand.with(new CategorySearchQuery(0, 10, "description", "name", "asc")));
+
+        Assertions.assertEquals(1, films.total());
+        Assertions.assertEquals(movies, films.items().get(0).id());
+        Assertions.assertEquals(1, description.total());
+        Assertions.assertEquals("Films", description.items().get(0).name());
+    }
+
+    // The startup rebuild runs on its own thread once the context is ready
+    private static void awaitReady(final CategoryLuceneIndex index) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !index.isReady(); attempt++) {
+            Thread.sleep(50);
+        }
+
+        Assertions.assertTrue(index.isReady());
+    }
+
+    private static ConfigurableApplicationContext startNode(final Path index) {
+        return new SpringApplicationBuilder(WebserverConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + SHARED_DATABASE,
+                        "catalogue.category.cache.enabled=true",
+                        "catalogue.category.changes.enabled=true",
+                        "catalogue.category.changes.poll-interval=PT1H",
+                        "catalogue.category.changes.prune-interval=PT1H",
+                        "catalogue.category.search.lucene.enabled=true",
+                        "catalogue.category.search.lucene.path=" + index
+                )
+                .run();
+    }
+}
@@ -0,0 +1,141 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryID;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The log is mocked, so the replica lag can be stood in for by time alone
+public class CategoryChangeRedeliveryTest {
+    private static final Duration READ_YOUR_WRITES = Duration.ofMillis(200);
+
+    private CategoryChangeLog changeLog;
+    private CategoryChangeListener listener;
+    private CategoryID id;
+
+    @BeforeEach
+    void setUp() {
+        this.changeLog = Mockito.mock(CategoryChangeLog.class);
+        this.listener = Mockito.mock(CategoryChangeListener.class);
+        this.id = CategoryID.generate();
+
+        when(changeLog.lastSequence()).thenReturn(0L);
+        when(changeLog.readAfter(eq(0L), anyInt())).thenReturn(List.of(new CategoryChange(1L, this.id)));
+        when(changeLog.readAfter(eq(1L), anyInt())).thenReturn(List.of());
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a replica, should deliver every change again once read-your-writes has passed
+     * 2. Given no replica, should deliver every change once
+     * 3. Given a gap held open, should deliver every change once, then the one that fills the gap, and redeliver each once
+     */
+
+    @Test
+    public void givenAReplica_whenReadYourWritesHasPassed_shouldDeliverTheChangeAgain() throws InterruptedException {
+        // Arrange
+        final var poller = poller(true);
+
+        poller.poll();
+
+        // Act
+        poller.poll();
+        poller.poll();
+
+        verify(listener, times(1)).changed(eq(List.of(this.id)));
+
+        Thread.sleep(READ_YOUR_WRITES.toMillis() + 50);
+        poller.poll();
+        poller.poll();
+
+        // Assert
+        verify(listener, times(2)).changed(eq(List.of(this.id)));
+    }
+
+    @Test
+    public void givenNoReplica_whenReadYourWritesHasPassed_shouldNotDeliverTheChangeAgain() throws InterruptedException {
+        // Arrange
+        final var poller = poller(false);
+
+        poller.poll();
+
+        // Act
+        poller.poll();
+
+        Thread.sleep(READ_YOUR_WRITES.toMillis() + 50);
+        poller.poll();
+
+        // Assert
+        verify(listener, times(1)).changed(eq(List.of(this.id)));
+    }
+
+    @Test
+    public void givenAGapHeldOpen_whenPolling_shouldDeliverEveryChangeOnce() throws InterruptedException {
+        // Arrange
+        final var afterGap = CategoryID.generate();
+        final var inGap = CategoryID.generate();
+
+        when(changeLog.readAfter(eq(0L), anyInt())).thenReturn(List.of(
+                new CategoryChange(1L, this.id),
+                new CategoryChange(3L, afterGap)
+        ));
+        when(changeLog.readAfter(eq(1L), anyInt())).thenReturn(List.of(new CategoryChange(3L, afterGap)));
+
+        final var poller = poller(true);
+
+        poller.poll();
+
+        // Act
+        poller.poll();
+        poller.poll();
+        poller.poll();
+
+        verify(listener, times(1)).changed(eq(List.of(this.id, afterGap)));
+
+        when(changeLog.readAfter(eq(1L), anyInt())).thenReturn(List.of(
+                new CategoryChange(2L, inGap),
+                new CategoryChange(3L, afterGap)
+        ));
+        when(changeLog.readAfter(eq(3L), anyInt())).thenReturn(List.of());
+
+        poller.poll();
+        poller.poll();
+
+        Thread.sleep(READ_YOUR_WRITES.toMillis() + 50);
+        poller.poll();
+        poller.poll();
+
+        // Assert
+        verify(listener, times(2)).changed(eq(List.of(this.id, afterGap)));
+        verify(listener, times(2)).changed(eq(List.of(inGap)));
+        verify(listener, times(4)).changed(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CategoryChangePoller poller(final boolean replica) {
+        final ObjectProvider<CategoryChangeListener> listeners = Mockito.mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenReturn(Stream.of(this.listener));
+
+        return new CategoryChangePoller(
+                this.changeLog,
+                listeners,
+                1_000,
+                Duration.ofSeconds(10),
+                Duration.ofHours(1),
+                replica,
+                READ_YOUR_WRITES
+        );
+    }
+}
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
 import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.utils.BinaryUUIDUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @MySQLGatewayTest
 public class  CategoryPersistenceTest {
@@ -14,6 +16,9 @@ public class  CategoryPersistenceTest {
     @Autowired
     private CategoryRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // Error related to the database schema if any of the required fields are null
 
     @Test
@@ -75,5 +80,21 @@ public class  CategoryPersistenceTest {
         Assertions.assertEquals(expectedProperty, cause.getPropertyName());
         Assertions.assertEquals(expectedMessage, cause.getMessage());
     }
-}
 
+    @Test
+    public void givenAValidCategory_whenCallsSave_shouldStoreTheIdAsSixteenBytes() {
+        // Arrange
+        final var category = Category.create("Category", "Category Description", true);
+        final var expectedId = category.getId().getValue();
+
+        // Act
+        this.repository.saveAndFlush(CategoryJPAEntity.from(category));
+
+        final var storedId = this.jdbcTemplate.queryForObject("SELECT id FROM category", byte[].class);
+
+        // Assert
+        Assertions.assertEquals(16, storedId.length);
+        Assertions.assertArrayEquals(BinaryUUIDUtils.toBytes(expectedId), storedId);
+        Assertions.assertEquals(expectedId, this.repository.findById(expectedId).orElseThrow().getId());
+    }
+}
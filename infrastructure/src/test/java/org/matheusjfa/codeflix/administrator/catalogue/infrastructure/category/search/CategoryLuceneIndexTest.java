@@ -0,0 +1,217 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatch;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryPatchResult;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategorySearchQuery;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.exceptions.DomainException;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.pagination.Pagination;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CategoryLuceneIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private CategoryLuceneIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new CategoryLuceneIndex(this.directory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.index.close();
+    }
+
+    @Test
+    public void givenARebuiltIndex_whenCallsSearch_shouldReturnCategoriesMatchingTheTermPrefix() {
+        // Arrange
+        final var expectedTotal = 1;
+        final var expectedName = "Documentary";
+
+        this.index.rebuild(createCategories().stream());
+
+        // Act
+        final var results = this.index.search(new CategorySearchQuery(0, 3, "doc", "name", "asc"));
+
+        // Assert
+        Assertions.assertTrue(this.index.isReady());
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertEquals(expectedName, results.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAPatchAndAStatusUpdate_whenWrittenThroughTheGateway_shouldReloadTheRowsFromTheTable() {
+        // Arrange
+        final var category = Category.create("Documentary", "Documentary category", true);
+        final var delegate = Mockito.mock(CategoryGateway.class);
+        final var loader = Mockito.mock(CategoryLuceneIndexLoader.class);
+        final var gateway = new LuceneCategoryGateway(delegate, this.index, loader, 10_000);
+        final var patch = CategoryPatch.with(category.getId(), "Documentaries", null, true);
+
+        Mockito.when(delegate.patch(patch)).thenReturn(CategoryPatchResult.UPDATED);
+        Mockito.when(delegate.updateStatusByIds(List.of(category.getId()), false)).thenReturn(1L);
+
+        this.index.rebuild(Stream.of(category));
+
+        // Act
+        gateway.patch(patch);
+        gateway.updateStatusByIds(List.of(category.getId()), false);
+        this.index.refresh();
+
+        // Assert
+        Mockito.verify(loader, Mockito.times(2)).changed(List.of(category.getId()));
+
+        final var stored = this.index.search(new CategorySearchQuery(0, 1, "documentary", "name", "asc")).items().get(0);
+        Assertions.assertEquals(category.getVersion(), stored.getVersion());
+        Assertions.assertEquals(category.getUpdatedAt(), stored.getUpdatedAt());
+    }
+
+    @Test
+    public void givenATermInManyCategories_whenCallsSearch_shouldReturnTheSortedPage() {
+        // Arrange
+        final var expectedTotal = 7;
+        final var expectedNames = List.of("Most Watched", "Movies", "Series");
+
+        this.index.rebuild(createCategories().stream());
+
+        // Act
+        final var results = this.index.search(new CategorySearchQuery(1, 3, "category", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(expectedTotal, results.total());
+        Assertions.assertTrue(results.hasNext());
+        Assertions.assertEquals(expectedNames, results.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenAQueryWithoutTotal_whenCallsSearch_shouldReturnASlice() {
+        // Arrange
+        this.index.rebuild(createCategories().stream());
+
+        // Act
+        final var results = this.index.search(new CategorySearchQuery(2, 3, "category", "name", "asc").withoutTotal());
+
+        // Assert
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, results.total());
+        Assertions.assertFalse(results.hasNext());
+        Assertions.assertEquals(1, results.items().size());
+    }
+
+    @Test
+    public void givenAnIndexedCategory_whenCallsSearch_shouldRestoreAllFields() {
+        // Arrange
+        final var category = Category.create("Cartoon", null, false);
+
+        this.index.rebuild(Stream.empty());
+        this.index.index(category);
+        this.index.refresh();
+
+        // Act
+        final var result = this.index.search(new CategorySearchQuery(0, 3, "cart", "name", "asc")).items().get(0);
+
+        // Assert
+        Assertions.assertEquals(category.getId(), result.getId());
+        Assertions.assertEquals(category.getName(), result.getName());
+        Assertions.assertNull(result.getDescription());
+        Assertions.assertFalse(result.isActive());
+        Assertions.assertEquals(category.getCreatedAt(), result.getCreatedAt());
+        Assertions.assertEquals(category.getUpdatedAt(), result.getUpdatedAt());
+        Assertions.assertEquals(category.getDeletedAt(), result.getDeletedAt());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsSearch_shouldNotReturnIt() {
+        // Arrange
+        final var categories = createCategories();
+        final var deleted = categories.get(2);
+
+        this.index.rebuild(categories.stream());
+
+        // Act
+        this.index.delete(deleted.getId());
+        this.index.refresh();
+
+        final var results = this.index.search(new CategorySearchQuery(0, 3, "documentary", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(0, results.total());
+        Assertions.assertTrue(results.items().isEmpty());
+    }
+
+    @Test
+    public void givenAnUpdateDuringRebuild_whenRebuildFinishes_shouldKeepTheNewestVersion() {
+        // Arrange
+        final var category = Category.create("Movies", "Movies Category", true);
+        final var updated = category.clone().update("Films", "Films Category", true);
+
+        // Act
+        // The update is applied while the rebuild is still streaming the old row
+        this.index.rebuild(Stream.of(category).peek(ignored -> this.index.index(updated)));
+
+        final var results = this.index.search(new CategorySearchQuery(0, 3, "films", "name", "asc"));
+        final var stale = this.index.search(new CategorySearchQuery(0, 3, "movies", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(1, results.total());
+        Assertions.assertEquals(0, stale.total());
+    }
+
+    @Test
+    public void givenAPagePastTheMaximumOffset_whenSearchedThroughTheGateway_shouldBeRejected() {
+        // Arrange
+        final var delegate = Mockito.mock(CategoryGateway.class);
+        final var gateway = new LuceneCategoryGateway(delegate, this.index, Mockito.mock(CategoryLuceneIndexLoader.class), 10_000);
+
+        this.index.rebuild(createCategories().stream());
+
+        // Act
+        final var deep = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new CategorySearchQuery(10_001, 1, "category", "name", "asc"))
+        );
+
+        // page * perPage overflows an int
+        final var overflowing = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new CategorySearchQuery(Integer.MAX_VALUE, 100, "category", "name", "asc"))
+        );
+
+        final var last = gateway.findAll(new CategorySearchQuery(10_000, 1, "category", "name", "asc"));
+
+        // Assert
+        Assertions.assertEquals(
+                "Page 10001 is beyond the maximum offset of 10000, use cursor pagination instead",
+                deep.getErrors().get(0).message()
+        );
+        Assertions.assertEquals(1, overflowing.getErrors().size());
+        Assertions.assertEquals(7, last.total());
+        Assertions.assertTrue(last.items().isEmpty());
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    private List<Category> createCategories() {
+        return List.of(
+                Category.create("Movies", "Movies Category", true),
+                Category.create("Series", "Series Category", false),
+                Category.create("Documentary", "Documentary Category", true),
+                Category.create("Animes", "Anime Category", true),
+                Category.create("Cartoon", "Cartoons Category", false),
+                Category.create("Most Watched", "Most Watched Category", true),
+                Category.create("Top 10", "Top 10 Category", true)
+        );
+    }
+}
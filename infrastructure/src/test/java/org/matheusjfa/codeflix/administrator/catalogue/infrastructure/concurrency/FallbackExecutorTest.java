@@ -0,0 +1,62 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class FallbackExecutorTest {
+    private FallbackExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // Virtual threads may be missing on the JVM running the tests, named platform threads stand in for them
+        this.executor = new FallbackExecutor(
+                Executors.newSingleThreadExecutor(task -> new Thread(task, "preferred")),
+                Executors.newSingleThreadExecutor(task -> new Thread(task, "fallback"))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.close();
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a new executor, should run tasks on the preferred threads
+     * 2. Given a fall back, should run every new task on the fallback threads
+     * 3. Given the JVM version, should only find virtual threads from Java 21 on
+     */
+
+    @Test
+    public void givenANewExecutor_shouldRunTasksOnThePreferredThreads() throws Exception {
+        Assertions.assertEquals("preferred", threadOf(this.executor));
+        Assertions.assertFalse(this.executor.isFallenBack());
+    }
+
+    @Test
+    public void givenAFallBack_shouldRunNewTasksOnTheFallbackThreads() throws Exception {
+        // Act
+        this.executor.fallBack();
+
+        // Assert
+        Assertions.assertEquals("fallback", threadOf(this.executor));
+        Assertions.assertEquals("fallback", threadOf(this.executor));
+        Assertions.assertTrue(this.executor.isFallenBack());
+    }
+
+    @Test
+    public void givenTheJvmVersion_shouldOnlyFindVirtualThreadsFromJava21() {
+        Assertions.assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+        Assertions.assertEquals(VirtualThreads.isSupported(), VirtualThreads.newThreadPerTaskExecutor("test-").isPresent());
+    }
+
+    private static String threadOf(final FallbackExecutor executor) throws Exception {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get(1, TimeUnit.SECONDS);
+    }
+}
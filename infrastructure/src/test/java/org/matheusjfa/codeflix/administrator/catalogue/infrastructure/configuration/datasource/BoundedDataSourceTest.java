@@ -0,0 +1,99 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedDataSourceTest {
+    private DataSource target;
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.target = Mockito.mock(DataSource.class);
+        Mockito.when(this.target.getConnection()).thenAnswer(invocation -> Mockito.mock(Connection.class));
+
+        this.dataSource = new BoundedDataSource(this.target, 2, Duration.ofMillis(100));
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given every permit taken, when asks for a connection, should wait until one is closed
+     * 2. Given every permit taken, when nothing is closed in time, should fail with a transient exception
+     * 3. Given a connection closed twice, should give back a single permit
+     * 4. Given a failing pool, when asks for a connection, should give the permit back
+     */
+
+    @Test
+    public void givenEveryPermitTaken_whenAsksForAConnection_shouldWaitUntilOneIsClosed() throws Exception {
+        // Arrange
+        final var first = this.dataSource.getConnection();
+        this.dataSource.getConnection();
+
+        final var waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.dataSource.getConnection();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Act
+        first.close();
+
+        // Assert
+        Assertions.assertNotNull(waiting.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, this.dataSource.availablePermits());
+        Mockito.verify(this.target, Mockito.times(3)).getConnection();
+    }
+
+    @Test
+    public void givenEveryPermitTaken_whenNothingIsClosedInTime_shouldFail() throws SQLException {
+        // Arrange
+        this.dataSource.getConnection();
+        this.dataSource.getConnection();
+
+        // Act
+        final var exception = Assertions.assertThrows(SQLTransientConnectionException.class, this.dataSource::getConnection);
+
+        // Assert
+        Assertions.assertEquals("No connection available within PT0.1S, 0 callers waiting", exception.getMessage());
+        Mockito.verify(this.target, Mockito.times(2)).getConnection();
+    }
+
+    @Test
+    public void givenAConnectionClosedTwice_shouldGiveBackASinglePermit() throws SQLException {
+        // Arrange
+        final var connection = this.dataSource.getConnection();
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        Assertions.assertEquals(2, this.dataSource.availablePermits());
+        Assertions.assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void givenAFailingPool_whenAsksForAConnection_shouldGiveThePermitBack() throws SQLException {
+        // Arrange
+        Mockito.when(this.target.getConnection()).thenThrow(new SQLException("Pool is down"));
+
+        // Act
+        final var exception = Assertions.assertThrows(SQLException.class, this.dataSource::getConnection);
+
+        // Assert
+        Assertions.assertEquals("Pool is down", exception.getMessage());
+        Assertions.assertEquals(2, this.dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,224 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.configuration.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.IntegrationTest;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.create.CreateCategoryUseCase;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdCommand;
+import org.matheusjfa.codeflix.administrator.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "catalogue.datasource.replica.enabled=true",
+        "catalogue.datasource.replica.url=jdbc:h2:mem:codeflix_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "catalogue.datasource.replica.read-your-writes=PT0.5S"
+})
+public class ReadWriteRoutingDataSourceIT {
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure()
+                .dataSource(this.replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        this.primary = new JdbcTemplate(this.primaryDataSource);
+        this.replica = new JdbcTemplate(this.replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.replica.update("DELETE FROM category");
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given a category just written, when reads it inside the read-your-writes window, should read from the primary
+     * 2. Given a category written a while ago, when reads it, should read from the replica
+     * 3. Given a category just written by another client, when reads it inside the read-your-writes window, should read from the replica
+     * 4. Given writes outside a transaction or untracked, when reads, should keep reading from the replica
+     * 5. Given a request echoing the last write of its client, when reads on another thread, should read from the primary
+     */
+
+    @Test
+    public void givenACategoryJustWritten_whenCallsGetCategoryById_shouldReadFromThePrimary() {
+        // Arrange
+        final var output = createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", "Movies description", true)).get();
+
+        replicate("Movies (replica)");
+
+        // Act
+        final var actual = getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(output.id().getValue()));
+
+        // Assert
+        Assertions.assertEquals("Movies", actual.name());
+    }
+
+    @Test
+    public void givenACategoryWrittenAfterTheWindow_whenCallsGetCategoryById_shouldReadFromTheReplica() throws InterruptedException {
+        // Arrange
+        final var output = createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", "Movies description", true)).get();
+
+        replicate("Movies (replica)");
+
+        leaveTheWindow();
+
+        // Act
+        final var actual = getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(output.id().getValue()));
+
+        // Assert
+        Assertions.assertEquals("Movies (replica)", actual.name());
+    }
+
+    @Test
+    public void givenACategoryWrittenByAnotherClient_whenCallsGetCategoryById_shouldReadFromTheReplica() throws Exception {
+        // Arrange
+        leaveTheWindow();
+
+        final var writer = Executors.newSingleThreadExecutor();
+        final var output = CompletableFuture.supplyAsync(
+                () -> createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", "Movies description", true)).get(),
+                writer
+        ).get();
+        writer.shutdown();
+
+        replicate("Movies (replica)");
+
+        // Act
+        final var actual = getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(output.id().getValue()));
+
+        // Assert
+        Assertions.assertEquals("Movies (replica)", actual.name());
+    }
+
+    @Test
+    public void givenWritesOutsideATransactionOrUntracked_whenCallsGetCategoryById_shouldReadFromTheReplica() throws InterruptedException {
+        // Arrange
+        final var output = createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", "Movies description", true)).get();
+
+        replicate("Movies (replica)");
+        leaveTheWindow();
+
+        // The way the change poller, the relay and the archive purger write
+        new JdbcTemplate(this.dataSource).update("DELETE FROM category_changes");
+        ReadWriteRoutingDataSource.untracked(() -> new TransactionTemplate(this.transactionManager)
+                .execute(status -> new JdbcTemplate(this.dataSource).update("DELETE FROM outbox")));
+
+        // Act
+        final var actual = getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(output.id().getValue()));
+
+        // Assert
+        Assertions.assertEquals("Movies (replica)", actual.name());
+    }
+
+    @Test
+    public void givenARequestEchoingItsLastWrite_whenCallsGetCategoryById_shouldReadFromThePrimary() throws Exception {
+        // Arrange
+        leaveTheWindow();
+
+        final var filter = new ReadYourWritesFilter();
+        final var written = new MockHttpServletResponse();
+        final var id = new AtomicReference<String>();
+
+        final var writer = Executors.newSingleThreadExecutor();
+        CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest(), written, (request, response) -> id.set(
+                        createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", "Movies description", true))
+                                .get()
+                                .id()
+                                .getValue()
+                ));
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, writer).get();
+        writer.shutdown();
+
+        replicate("Movies (replica)");
+
+        final var read = new MockHttpServletRequest();
+        read.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, written.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+
+        final var name = new AtomicReference<String>();
+
+        // Act
+        filter.doFilter(read, new MockHttpServletResponse(), (request, response) -> name.set(
+                getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(id.get())).name()
+        ));
+
+        // Assert
+        Assertions.assertNotNull(written.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+        Assertions.assertEquals("Movies", name.get());
+        Assertions.assertEquals(
+                "Movies (replica)",
+                getCategoryByIdUseCase.execute(GetCategoryByIdCommand.with(id.get())).name()
+        );
+    }
+
+    // The repositories are cleaned up before each test, which is a write too
+    private static void leaveTheWindow() throws InterruptedException {
+        Thread.sleep(600);
+    }
+
+    // Copies the primary rows into the replica under another name, so the test can tell which one answered
+    private void replicate(final String name) {
+        this.primary.queryForList("SELECT * FROM category").forEach(row -> {
+            final var columns = new ArrayList<>(row.keySet());
+            final var values = columns.stream()
+                    .map(column -> column.equalsIgnoreCase("name") ? name : row.get(column))
+                    .toArray();
+
+            this.replica.update(
+                    "INSERT INTO category (%s) VALUES (%s)".formatted(
+                            String.join(", ", columns),
+                            String.join(", ", Collections.nCopies(columns.size(), "?"))
+                    ),
+                    values
+            );
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package org.matheusjfa.codeflix.administrator.catalogue.infrastructure.outbox;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheusjfa.codeflix.administrator.catalogue.MySQLGatewayTest;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.Category;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryCreated;
+import org.matheusjfa.codeflix.administrator.catalogue.domain.category.CategoryUpdated;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.CategoryTombstones;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.changes.CategoryChangeLog;
+import org.matheusjfa.codeflix.administrator.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+public class OutboxRelayTest {
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Outbox outbox;
+    private CategoryMySQLGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.jdbcTemplate.update("DELETE FROM outbox");
+        this.outbox = new Outbox(this.jdbcTemplate, true);
+        this.gateway = new CategoryMySQLGateway(
+                this.repository,
+                new CategoryChangeLog(this.jdbcTemplate),
+                new CategoryTombstones(this.jdbcTemplate),
+                this.outbox,
+                10_000,
+                false,
+                false,
+                Duration.ZERO,
+                CategoryMySQLGateway.CountMode.SEQUENTIAL,
+                null
+        );
+    }
+
+    /**
+     * Test Scenarios
+     * 1. Given category writes, should store their events in the outbox
+     * 2. Given stored events, when drains, should publish them all in order and empty the outbox
+     * 3. Given a publisher that fails some sends, when drains, should keep the failed events for the next run
+     * 4. Given two relays, when both drain, should publish each event once, through the lease holder only
+     * 5. Given a relay that released the lease, when another drains, should take the lease over
+     */
+
+    @Test
+    public void givenCategoryWrites_whenCallsGateway_shouldStoreTheirEvents() {
+        // Arrange
+        final var movies = Category.create("Movies", "Movies description", true);
+        final var series = Category.create("Series", "Series description", true);
+
+        // Act
+        gateway.createAll(List.of(movies, series));
+        gateway.updateStatusByIds(List.of(movies.getId()), false);
+
+        // Assert
+        final var stored = outbox.next(10);
+
+        Assertions.assertEquals(
+                List.of(CategoryCreated.class.getSimpleName(), CategoryCreated.class.getSimpleName(), CategoryUpdated.class.getSimpleName()),
+                stored.stream().map(OutboxEvent::type).toList()
+        );
+        Assertions.assertEquals(movies.getId().getValue(), stored.get(2).aggregateId());
+        Assertions.assertTrue(movies.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenStoredEvents_whenCallsDrain_shouldPublishThemAllAndEmptyTheOutbox() {
+        // Arrange
+        final var categories = IntStream.range(0, 25)
+                .mapToObj(i -> Category.create("Category " + i, null, true))
+                .toList();
+
+        gateway.createAll(categories);
+
+        final var publisher = new InMemoryEventPublisher();
+        final var relay = new OutboxRelay(outbox, publisher, transactionManager, 10, 4, LEASE);
+
+        // Act
+        final var relayed = relay.drain();
+
+        // Assert
+        Assertions.assertEquals(25, relayed);
+        Assertions.assertEquals(
+                categories.stream().map(category -> category.getId().getValue()).toList(),
+                publisher.getPublished().stream().map(OutboxEvent::aggregateId).toList()
+        );
+        Assertions.assertTrue(outbox.next(1).isEmpty());
+    }
+
+    @Test
+    public void givenAFailingPublisher_whenCallsDrain_shouldKeepTheFailedEvents() {
+        // Arrange
+        final var failing = Category.create("Failing", null, true);
+
+        gateway.createAll(List.of(Category.create("Movies", null, true), failing));
+
+        final EventPublisher publisher = event -> event.aggregateId().equals(failing.getId().getValue())
+                ? CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))
+                : CompletableFuture.completedFuture(null);
+
+        final var relay = new OutboxRelay(outbox, publisher, transactionManager, 10, 4, LEASE);
+
+        // Act
+        final var relayed = relay.drain();
+
+        // Assert
+        Assertions.assertEquals(1, relayed);
+
+        final var remaining = outbox.next(10);
+        Assertions.assertEquals(1, remaining.size());
+        Assertions.assertEquals(failing.getId().getValue(), remaining.get(0).aggregateId());
+    }
+
+    @Test
+    public void givenTwoRelays_whenBothDrain_shouldPublishThroughTheLeaseHolderOnly() {
+        // Arrange
+        gateway.createAll(List.of(Category.create("Movies", null, true), Category.create("Series", null, true)));
+
+        final var holderPublisher = new InMemoryEventPublisher();
+        final var otherPublisher = new InMemoryEventPublisher();
+        final var holder = new OutboxRelay(outbox, holderPublisher, transactionManager, 10, 4, LEASE);
+        final var other = new OutboxRelay(outbox, otherPublisher, transactionManager, 10, 4, LEASE);
+
+        // Act
+        final var relayedByHolder = holder.drain();
+        gateway.createAll(List.of(Category.create("Documentaries", null, true)));
+        final var relayedByOther = other.drain();
+
+        // Assert
+        Assertions.assertEquals(2, relayedByHolder);
+        Assertions.assertEquals(0, relayedByOther);
+        Assertions.assertTrue(otherPublisher.getPublished().isEmpty());
+        Assertions.assertEquals(1, outbox.next(10).size());
+
+        Assertions.assertEquals(1, holder.drain());
+        Assertions.assertEquals(3, holderPublisher.getPublished().size());
+    }
+
+    @Test
+    public void givenARelayThatReleasedTheLease_whenAnotherDrains_shouldTakeTheLeaseOver() {
+        // Arrange
+        final var first = new OutboxRelay(outbox, new InMemoryEventPublisher(), transactionManager, 10, 4, LEASE);
+        first.drain();
+        first.release();
+
+        gateway.createAll(List.of(Category.create("Movies", null, true)));
+
+        final var publisher = new InMemoryEventPublisher();
+        final var second = new OutboxRelay(outbox, publisher, transactionManager, 10, 4, LEASE);
+
+        // Act
+        final var relayed = second.drain();
+
+        // Assert
+        Assertions.assertEquals(1, relayed);
+        Assertions.assertEquals(1, publisher.getPublished().size());
+        Assertions.assertEquals(0, first.drain());
+    }
+}